@@ -0,0 +1,120 @@
+package com.finnantech.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.finnantech.domain.entities.User;
+import com.finnantech.domain.valueobjects.Email;
+import com.finnantech.infrastructure.services.JwtServiceAdapter;
+import com.finnantech.infrastructure.services.PasswordServiceAdapter;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Caminho de autenticação: parsing do JWT e verificação de senha (BCrypt)
+ * jwtExtractAllClaimsCached mede o acerto no cache de claims (mesmo token sempre); jwtParseAndVerify
+ * percorre tokens distintos com o cache desligado, então cada chamada faz o parsing e o HMAC
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String PASSWORD = "Senha123!";
+
+    @State(Scope.Benchmark)
+    public static class AuthState {
+
+        @Param("10000")
+        public long claimsCacheSize;
+
+        ConfigurableApplicationContext context;
+        JwtServiceAdapter jwtService;
+        PasswordServiceAdapter passwordService;
+        String token;
+        String passwordHash;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start(Map.of("jwt.claims-cache.maximum-size", String.valueOf(claimsCacheSize)));
+            jwtService = context.getBean(JwtServiceAdapter.class);
+            passwordService = context.getBean(PasswordServiceAdapter.class);
+            passwordHash = passwordService.hashPassword(PASSWORD);
+            token = jwtService.generateToken(User.createLocalUser("Benchmark", Email.of("bench@finnantech.dev"), passwordHash));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    /**
+     * Tokens distintos em rodízio: mesmo com a remoção assíncrona do Caffeine no tamanho 0, um token
+     * só volta depois de distinctTokens chamadas e nunca é encontrado no cache
+     */
+    @State(Scope.Benchmark)
+    public static class UncachedJwtState {
+
+        @Param("65536")
+        public int distinctTokens;
+
+        ConfigurableApplicationContext context;
+        JwtServiceAdapter jwtService;
+        String[] tokens;
+        final AtomicInteger next = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkApplication.start(Map.of("jwt.claims-cache.maximum-size", "0"));
+            jwtService = context.getBean(JwtServiceAdapter.class);
+            tokens = new String[distinctTokens];
+            for (int i = 0; i < distinctTokens; i++) {
+                tokens[i] = jwtService.generateToken(
+                    User.createLocalUser("Benchmark " + i, Email.of("bench" + i + "@finnantech.dev"), "hash"));
+            }
+        }
+
+        String nextToken() {
+            return tokens[Math.floorMod(next.getAndIncrement(), tokens.length)];
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Claims jwtExtractAllClaimsCached(AuthState state) {
+        return state.jwtService.extractAllClaims(state.token);
+    }
+
+    @Benchmark
+    public Claims jwtParseAndVerify(UncachedJwtState state) {
+        return state.jwtService.extractAllClaims(state.nextToken());
+    }
+
+    @Benchmark
+    public boolean verifyPassword(AuthState state) {
+        return state.passwordService.verifyPassword(PASSWORD, state.passwordHash);
+    }
+}
@@ -0,0 +1,47 @@
+package com.finnantech.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.finnantech.FinnantechApplication;
+
+/**
+ * Sobe o contexto Spring da aplicação para os benchmarks
+ * Cada trial usa um H2 em memória próprio, sem servidor web e com logs de SQL desligados
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(Map<String, String> overrides) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--spring.jpa.properties.hibernate.format_sql=false");
+        args.add("--spring.jpa.properties.hibernate.use_sql_comments=false");
+        args.add("--spring.devtools.restart.enabled=false");
+        args.add("--jwt.secret=benchmark-secret-key-with-at-least-32-bytes");
+        args.add("--rollups.rebuild-on-startup=false");
+        args.add("--recurring.engine.enabled=false");
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.com.finnantech=WARN");
+        args.add("--logging.level.org.springframework=WARN");
+        args.add("--logging.level.org.springframework.security=WARN");
+        args.add("--logging.level.org.springframework.web=WARN");
+        args.add("--logging.level.org.hibernate.SQL=WARN");
+        args.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        overrides.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        return new SpringApplicationBuilder(FinnantechApplication.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .run(args.toArray(String[]::new));
+    }
+}
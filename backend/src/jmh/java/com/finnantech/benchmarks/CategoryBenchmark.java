@@ -0,0 +1,31 @@
+package com.finnantech.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.finnantech.application.services.CategoryService;
+import com.finnantech.domain.entities.Category;
+
+/**
+ * Listagem de categorias disponíveis para o usuário
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryBenchmark {
+
+    @Benchmark
+    public List<Category> allCategoriesForUser(SeededApplicationState state, SeededApplicationState.UserCursor cursor) {
+        return state.bean(CategoryService.class).getAllCategoriesForUser(cursor.nextUserId(state));
+    }
+}
@@ -0,0 +1,43 @@
+package com.finnantech.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.finnantech.application.services.DashboardService;
+import com.finnantech.infrastructure.web.dtos.CategoryStatsResponse;
+import com.finnantech.infrastructure.web.dtos.DashboardSummaryResponse;
+import com.finnantech.infrastructure.web.dtos.MonthlyExpensesResponse;
+
+/**
+ * Endpoints de dashboard: resumo, estatísticas por categoria e despesas mensais
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+    @Benchmark
+    public DashboardSummaryResponse summary(SeededApplicationState state, SeededApplicationState.UserCursor cursor) {
+        return state.bean(DashboardService.class).getDashboardSummary(cursor.nextUserId(state));
+    }
+
+    @Benchmark
+    public List<CategoryStatsResponse> categoryStats(SeededApplicationState state, SeededApplicationState.UserCursor cursor) {
+        return state.bean(DashboardService.class).getCategoryStats(cursor.nextUserId(state));
+    }
+
+    @Benchmark
+    public List<MonthlyExpensesResponse> monthlyExpenses(SeededApplicationState state, SeededApplicationState.UserCursor cursor) {
+        return state.bean(DashboardService.class).getMonthlyExpenses(cursor.nextUserId(state));
+    }
+}
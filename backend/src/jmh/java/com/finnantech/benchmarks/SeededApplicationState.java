@@ -0,0 +1,72 @@
+package com.finnantech.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.finnantech.infrastructure.persistence.seed.SyntheticDataSeeder;
+
+/**
+ * Aplicação com H2 populado na escala configurada (-p users=... -p transactionsPerUser=...)
+ * Com cache=false os caches Spring ficam desligados e cada chamada vai ao banco
+ */
+@State(Scope.Benchmark)
+public class SeededApplicationState {
+
+    @Param("20")
+    public int users;
+
+    @Param("1000")
+    public int transactionsPerUser;
+
+    @Param("false")
+    public boolean cache;
+
+    @Param("3")
+    public int years;
+
+    @Param("42")
+    public long seed;
+
+    ConfigurableApplicationContext context;
+    List<String> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of("spring.cache.type", cache ? "caffeine" : "none"));
+        userIds = context.getBean(SyntheticDataSeeder.class)
+            .seed(new SyntheticDataSeeder.SeedPlan(users, transactionsPerUser, years, seed, 4, 1000))
+            .userIds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Percorre os usuários em round-robin, um cursor por thread
+     */
+    @State(Scope.Thread)
+    public static class UserCursor {
+
+        private int next;
+
+        String nextUserId(SeededApplicationState state) {
+            String userId = state.userIds.get(next);
+            next = (next + 1) % state.userIds.size();
+            return userId;
+        }
+    }
+}
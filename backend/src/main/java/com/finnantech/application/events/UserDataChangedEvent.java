@@ -0,0 +1,7 @@
+package com.finnantech.application.events;
+
+/**
+ * Evento publicado após o commit de escritas que alteram os dados financeiros de um usuário
+ */
+public record UserDataChangedEvent(String userId) {
+}
@@ -0,0 +1,15 @@
+package com.finnantech.application.exceptions;
+
+/**
+ * Exceção lançada quando um recurso limitado está saturado e a requisição deve ser repetida depois
+ */
+public class ServiceOverloadedException extends ApplicationException {
+    
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+    
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,137 @@
+package com.finnantech.application.services;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.finnantech.domain.entities.Budget;
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.CategoryType;
+import com.finnantech.infrastructure.persistence.repositories.BudgetRepository;
+import com.finnantech.infrastructure.persistence.rollups.BudgetSpendingWriter;
+import com.finnantech.infrastructure.web.dtos.BudgetCreateRequest;
+import com.finnantech.infrastructure.web.dtos.BudgetResponse;
+import com.finnantech.infrastructure.web.dtos.BudgetUpdateRequest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service para orçamentos mensais por categoria
+ * O valor gasto não é calculado aqui: ele é mantido por deltas a cada escrita de transação
+ * (BudgetSpendingWriter) e a leitura do mês é uma única consulta em idx_budgets_user_month
+ * Na criação o orçamento é gravado primeiro e o gasto inicial é copiado do agregado mensal da
+ * categoria com a linha do agregado travada, para não perder deltas de transações gravadas ao mesmo tempo
+ */
+@Service
+@Transactional
+public class BudgetService {
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetSpendingWriter budgetSpendingWriter;
+    private final CategoryCatalogService categoryCatalog;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BudgetService(BudgetRepository budgetRepository, BudgetSpendingWriter budgetSpendingWriter,
+                         CategoryCatalogService categoryCatalog) {
+        this.budgetRepository = budgetRepository;
+        this.budgetSpendingWriter = budgetSpendingWriter;
+        this.categoryCatalog = categoryCatalog;
+    }
+
+    /**
+     * Orçamentos ativos do usuário no mês (YYYY-MM), do mais consumido para o menos consumido
+     */
+    @Transactional(readOnly = true)
+    public List<BudgetResponse> getBudgetsForMonth(String userId, String monthYear) {
+        List<Budget> budgets = budgetRepository.findActiveByUserAndMonth(userId, monthYear);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Category> categoriesMap = categoryCatalog.getCategoriesMapForUser(userId);
+        return budgets.stream()
+            .sorted(Comparator.comparing(Budget::getUsagePercentage).reversed())
+            .map(budget -> toResponse(budget, categoriesMap.get(budget.getCategoryId())))
+            .toList();
+    }
+
+    /**
+     * Cria o orçamento da categoria no mês; um orçamento desativado da mesma chave é reaproveitado
+     */
+    public BudgetResponse createBudget(String userId, BudgetCreateRequest request) {
+        Category category = categoryCatalog.findAvailableForUser(userId, request.getCategoryId())
+            .orElseThrow(() -> new IllegalArgumentException("Categoria não encontrada: " + request.getCategoryId()));
+        if (category.getType() != CategoryType.DESPESA && category.getType() != CategoryType.INVESTIMENTO) {
+            throw new IllegalArgumentException("Orçamentos são permitidos apenas para categorias de despesa");
+        }
+
+        Budget budget = budgetRepository
+            .findByUserIdAndCategoryIdAndMonthYear(userId, request.getCategoryId(), request.getMonthYear())
+            .orElse(null);
+        if (budget != null && budget.getActive()) {
+            throw new IllegalArgumentException("Já existe um orçamento para esta categoria em " + request.getMonthYear());
+        }
+        if (budget == null) {
+            budget = new Budget(userId, request.getCategoryId(), request.getMonthYear(), request.getPlannedAmount());
+        }
+        budget.setActive(true);
+        budget.setNotes(request.getNotes());
+        budget.updatePlan(request.getPlannedAmount(), request.getAlertThreshold());
+
+        budget = budgetRepository.saveAndFlush(budget);
+        budgetSpendingWriter.rebuildBudget(budget.getId(), userId, budget.getCategoryId(), budget.getMonthYear());
+        entityManager.refresh(budget);
+        return toResponse(budget, category);
+    }
+
+    /**
+     * Atualiza valor planejado, limite de alerta e notas
+     */
+    public BudgetResponse updateBudget(String userId, String budgetId, BudgetUpdateRequest request) {
+        Budget budget = findActive(userId, budgetId);
+        budget.setNotes(request.getNotes());
+        budget.updatePlan(request.getPlannedAmount(), request.getAlertThreshold());
+
+        Category category = categoryCatalog.findAvailableForUser(userId, budget.getCategoryId()).orElse(null);
+        return toResponse(budgetRepository.save(budget), category);
+    }
+
+    /**
+     * Desativa o orçamento (soft delete); o gasto continua sendo mantido
+     */
+    public void deactivateBudget(String userId, String budgetId) {
+        Budget budget = findActive(userId, budgetId);
+        budget.deactivate();
+        budgetRepository.save(budget);
+    }
+
+    private Budget findActive(String userId, String budgetId) {
+        return budgetRepository.findByIdAndUserId(budgetId, userId)
+            .filter(Budget::getActive)
+            .orElseThrow(() -> new IllegalArgumentException("Orçamento não encontrado: " + budgetId));
+    }
+
+    private BudgetResponse toResponse(Budget budget, Category category) {
+        BudgetResponse response = new BudgetResponse();
+        response.setId(budget.getId());
+        response.setCategoryId(budget.getCategoryId());
+        response.setCategoryName(category != null ? category.getName() : "Categoria Desconhecida");
+        response.setCategoryColor(category != null ? category.getColor() : null);
+        response.setCategoryIcon(category != null ? category.getIcon() : null);
+        response.setMonthYear(budget.getMonthYear());
+        response.setPlannedAmount(budget.getPlannedAmount());
+        response.setSpentAmount(budget.getSpentAmount());
+        response.setRemainingAmount(budget.getRemainingAmount());
+        response.setUsagePercentage(budget.getUsagePercentage());
+        response.setAlertThreshold(budget.getAlertThreshold());
+        response.setAlertSent(budget.getAlertSent());
+        response.setStatus(budget.isExceeded() ? "EXCEDIDO" : budget.isThresholdReached() ? "ALERTA" : "OK");
+        response.setNotes(budget.getNotes());
+        return response;
+    }
+}
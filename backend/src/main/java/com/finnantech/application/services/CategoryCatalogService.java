@@ -0,0 +1,187 @@
+package com.finnantech.application.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.CategoryType;
+import com.finnantech.infrastructure.cache.UserScopedKeyGenerator;
+import com.finnantech.infrastructure.config.CacheConfig;
+import com.finnantech.infrastructure.persistence.repositories.CategoryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Catálogo de categorias em memória
+ * As categorias padrão do sistema, idênticas para todos os usuários, ficam em um snapshot
+ * imutável indexado por id e tipo; as categorias personalizadas de cada usuário formam um
+ * overlay pequeno, cacheado por usuário e versão dos dados (UserCacheKey)
+ */
+@Service
+public class CategoryCatalogService {
+
+    private static final Comparator<Category> BY_NAME = Comparator.comparing(Category::getName);
+    private static final Comparator<Category> BY_TYPE_AND_NAME =
+        Comparator.comparing((Category category) -> category.getType().name()).thenComparing(BY_NAME);
+
+    private final CategoryRepository categoryRepository;
+    private final Cache overlayCache;
+    private final UserScopedKeyGenerator keyGenerator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile CategorySnapshot systemSnapshot;
+
+    public CategoryCatalogService(CategoryRepository categoryRepository, CacheManager cacheManager,
+                                  UserScopedKeyGenerator keyGenerator) {
+        this.categoryRepository = categoryRepository;
+        this.overlayCache = cacheManager.getCache(CacheConfig.CATEGORY_USER_OVERLAY);
+        this.keyGenerator = keyGenerator;
+    }
+
+    /**
+     * Todas as categorias ativas disponíveis para o usuário (sistema primeiro, depois as próprias)
+     */
+    public List<Category> getAllForUser(String userId) {
+        return merge(systemSnapshot().all(), userOverlay(userId).all());
+    }
+
+    /**
+     * Categorias ativas de um tipo disponíveis para o usuário
+     */
+    public List<Category> getByTypeForUser(String userId, CategoryType type) {
+        return merge(systemSnapshot().byType(type), userOverlay(userId).byType(type));
+    }
+
+    /**
+     * Categorias padrão do sistema ativas
+     */
+    public List<Category> getSystemCategories() {
+        return systemSnapshot().all();
+    }
+
+    /**
+     * Mapa id -> categoria com todas as categorias ativas disponíveis para o usuário
+     */
+    public Map<String, Category> getCategoriesMapForUser(String userId) {
+        CategorySnapshot overlay = userOverlay(userId);
+        Map<String, Category> categories = new HashMap<>(systemSnapshot().byId());
+        categories.putAll(overlay.byId());
+        return categories;
+    }
+
+    /**
+     * Busca categorias pelos ids, resolvendo pelo catálogo e consultando o banco
+     * apenas para as que não estão nele (ex.: categorias desativadas)
+     */
+    public Map<String, Category> findByIds(String userId, Collection<String> categoryIds) {
+        Map<String, Category> available = getCategoriesMapForUser(userId);
+        Map<String, Category> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String categoryId : categoryIds) {
+            Category category = available.get(categoryId);
+            if (category != null) {
+                result.put(categoryId, category);
+            } else {
+                missing.add(categoryId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // multiLoad consulta o cache de segundo nível antes e busca as demais em uma única consulta
+            entityManager.unwrap(Session.class).byMultipleIds(Category.class).multiLoad(missing)
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(category -> result.put(category.getId(), category));
+        }
+        return result;
+    }
+
+    /**
+     * Busca categoria ativa disponível para o usuário (do sistema ou própria)
+     */
+    public Optional<Category> findAvailableForUser(String userId, String categoryId) {
+        Category category = systemSnapshot().byId().get(categoryId);
+        if (category == null) {
+            category = userOverlay(userId).byId().get(categoryId);
+        }
+        return Optional.ofNullable(category);
+    }
+
+    /**
+     * Recarrega o snapshot das categorias padrão do sistema
+     */
+    public void refreshSystemCategories() {
+        systemSnapshot = CategorySnapshot.of(categoryRepository.findByIsSystemDefaultTrueAndActiveTrue());
+    }
+
+    private CategorySnapshot systemSnapshot() {
+        CategorySnapshot snapshot = systemSnapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (systemSnapshot == null) {
+                    refreshSystemCategories();
+                }
+                snapshot = systemSnapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private CategorySnapshot userOverlay(String userId) {
+        return overlayCache.get(keyGenerator.keyFor(userId, List.of()),
+            () -> CategorySnapshot.of(categoryRepository.findByUserIdAndActiveTrue(userId)));
+    }
+
+    private List<Category> merge(List<Category> system, List<Category> user) {
+        if (user.isEmpty()) {
+            return system;
+        }
+        List<Category> merged = new ArrayList<>(system.size() + user.size());
+        merged.addAll(system);
+        merged.addAll(user);
+        return merged;
+    }
+
+    /**
+     * Conjunto imutável de categorias indexado por id e por tipo
+     */
+    private record CategorySnapshot(List<Category> all,
+                                    Map<String, Category> byId,
+                                    Map<CategoryType, List<Category>> byTypeIndex) {
+
+        static CategorySnapshot of(List<Category> categories) {
+            List<Category> sorted = categories.stream().sorted(BY_TYPE_AND_NAME).toList();
+
+            Map<String, Category> byId = new LinkedHashMap<>();
+            Map<CategoryType, List<Category>> byType = new EnumMap<>(CategoryType.class);
+            for (Category category : sorted) {
+                byId.put(category.getId(), category);
+                byType.computeIfAbsent(category.getType(), type -> new ArrayList<>()).add(category);
+            }
+            byType.replaceAll((type, list) -> list.stream().sorted(BY_NAME).toList());
+
+            return new CategorySnapshot(sorted, Map.copyOf(byId), Map.copyOf(byType));
+        }
+
+        List<Category> byType(CategoryType type) {
+            return byTypeIndex.getOrDefault(type, List.of());
+        }
+    }
+}
@@ -20,10 +20,12 @@ import java.util.UUID;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalogService categoryCatalog;
     
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryCatalogService categoryCatalog) {
         this.categoryRepository = categoryRepository;
+        this.categoryCatalog = categoryCatalog;
     }
     
     /**
@@ -31,35 +33,41 @@ public class CategoryService {
      * (categorias próprias + categorias padrão do sistema)
      */
     public List<Category> getAllCategoriesForUser(String userId) {
-        return categoryRepository.findAllAvailableForUser(userId);
+        return categoryCatalog.getAllForUser(userId);
     }
     
     /**
      * Busca categorias por tipo para um usuário
      */
     public List<Category> getCategoriesByType(String userId, String type) {
-        return categoryRepository.findByUserAndType(userId, type);
+        CategoryType categoryType;
+        try {
+            categoryType = CategoryType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de categoria inválido: " + type);
+        }
+        return categoryCatalog.getByTypeForUser(userId, categoryType);
     }
     
     /**
      * Busca categorias de despesa para um usuário
      */
     public List<Category> getExpenseCategories(String userId) {
-        return categoryRepository.findExpenseCategoriesForUser(userId);
+        return categoryCatalog.getByTypeForUser(userId, CategoryType.DESPESA);
     }
     
     /**
      * Busca categorias de receita para um usuário
      */
     public List<Category> getIncomeCategories(String userId) {
-        return categoryRepository.findIncomeCategoriesForUser(userId);
+        return categoryCatalog.getByTypeForUser(userId, CategoryType.RECEITA);
     }
     
     /**
      * Busca categorias de investimento para um usuário
      */
     public List<Category> getInvestmentCategories(String userId) {
-        return categoryRepository.findInvestmentCategoriesForUser(userId);
+        return categoryCatalog.getByTypeForUser(userId, CategoryType.INVESTIMENTO);
     }
     
     /**
@@ -196,7 +204,7 @@ public class CategoryService {
      * Busca apenas categorias padrão do sistema
      */
     public List<Category> getSystemCategories() {
-        return categoryRepository.findByIsSystemDefaultTrueAndActiveTrue();
+        return categoryCatalog.getSystemCategories();
     }
     
     /**
@@ -217,15 +225,7 @@ public class CategoryService {
      * Valida se uma categoria pode ser usada pelo usuário
      */
     public boolean canUserUseCategory(String userId, String categoryId) {
-        Optional<Category> category = categoryRepository.findById(categoryId);
-        
-        if (category.isEmpty() || !category.get().getActive()) {
-            return false;
-        }
-        
-        Category cat = category.get();
-        
-        // Pode usar se for categoria própria ou categoria padrão do sistema
-        return userId.equals(cat.getUserId()) || cat.getIsSystemDefault();
+        // Pode usar se for categoria própria ativa ou categoria padrão do sistema
+        return categoryCatalog.findAvailableForUser(userId, categoryId).isPresent();
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.finnantech.application.services;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Período de comparação do dashboard, sempre com datas inclusivas
+ * Formatos aceitos: ano (2024), trimestre (2024-Q2), mês (2024-05) e intervalo
+ * personalizado com datas ou meses nas pontas (2024-01-10..2024-02-15, 2023-11..2024-02)
+ */
+public record ComparisonPeriod(String label, LocalDate startDate, LocalDate endDate) {
+
+    private static final Pattern YEAR = Pattern.compile("^\\d{4}$");
+    private static final Pattern QUARTER = Pattern.compile("^(\\d{4})-[Qq]([1-4])$");
+    private static final Pattern MONTH = Pattern.compile("^\\d{4}-\\d{2}$");
+    private static final String RANGE_SEPARATOR = "..";
+
+    public static ComparisonPeriod parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Período não informado");
+        }
+        String period = value.trim();
+        try {
+            if (YEAR.matcher(period).matches()) {
+                int year = Integer.parseInt(period);
+                return new ComparisonPeriod(period, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            }
+            Matcher quarter = QUARTER.matcher(period);
+            if (quarter.matches()) {
+                YearMonth first = YearMonth.of(Integer.parseInt(quarter.group(1)), (Integer.parseInt(quarter.group(2)) - 1) * 3 + 1);
+                return new ComparisonPeriod(period.toUpperCase(), first.atDay(1), first.plusMonths(2).atEndOfMonth());
+            }
+            if (MONTH.matcher(period).matches()) {
+                YearMonth month = YearMonth.parse(period);
+                return new ComparisonPeriod(period, month.atDay(1), month.atEndOfMonth());
+            }
+            int separator = period.indexOf(RANGE_SEPARATOR);
+            if (separator > 0) {
+                LocalDate start = boundary(period.substring(0, separator).trim(), true);
+                LocalDate end = boundary(period.substring(separator + RANGE_SEPARATOR.length()).trim(), false);
+                if (end.isBefore(start)) {
+                    throw new IllegalArgumentException("Período inválido: " + value + " (início após o fim)");
+                }
+                return new ComparisonPeriod(period, start, end);
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Período inválido: " + value);
+        }
+        throw new IllegalArgumentException("Período inválido: " + value
+            + " (use YYYY, YYYY-Qn, YYYY-MM ou início..fim)");
+    }
+
+    /**
+     * Indica se o período cobre apenas meses completos (pode ser servido pelos agregados mensais)
+     */
+    public boolean isWholeMonths() {
+        return startDate.getDayOfMonth() == 1 && endDate.equals(YearMonth.from(endDate).atEndOfMonth());
+    }
+
+    public String startMonthYear() {
+        return YearMonth.from(startDate).toString();
+    }
+
+    public String endMonthYear() {
+        return YearMonth.from(endDate).toString();
+    }
+
+    private static LocalDate boundary(String value, boolean start) {
+        if (MONTH.matcher(value).matches()) {
+            YearMonth month = YearMonth.parse(value);
+            return start ? month.atDay(1) : month.atEndOfMonth();
+        }
+        return LocalDate.parse(value);
+    }
+}
@@ -0,0 +1,131 @@
+package com.finnantech.application.services;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.finnantech.infrastructure.persistence.monitoring.RequestSqlStats;
+import com.finnantech.infrastructure.web.dtos.DashboardOverviewResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service da visão geral do dashboard
+ * As seções são calculadas em paralelo num pool limitado, cada uma pela chamada ao proxy de
+ * DashboardService (transação somente leitura e cache próprios), e a resposta espera no máximo
+ * dashboard.overview.timeout: o que não terminar a tempo volta como indisponível
+ * Com o pool e a fila cheios a seção é recusada e volta como indisponível, em vez de rodar na
+ * thread da requisição sem respeitar o prazo
+ */
+@Service
+public class DashboardOverviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardOverviewService.class);
+
+    private final DashboardService dashboardService;
+
+    @Value("${dashboard.overview.threads:4}")
+    private int threads;
+
+    @Value("${dashboard.overview.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${dashboard.overview.timeout:PT2S}")
+    private Duration timeout;
+
+    private ThreadPoolExecutor executor;
+
+    public DashboardOverviewService(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-overview-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Calcula as seções em paralelo e devolve o que ficou pronto dentro do prazo
+     */
+    public DashboardOverviewResponse getOverview(String userId) {
+        DashboardOverviewResponse overview = new DashboardOverviewResponse();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, Section<?>> sections = new LinkedHashMap<>();
+        sections.put("summary", submit(() -> dashboardService.getDashboardSummary(userId), DashboardOverviewResponse::setSummary));
+        sections.put("categoryStats", submit(() -> dashboardService.getCategoryStats(userId), DashboardOverviewResponse::setCategoryStats));
+        sections.put("monthlyExpenses", submit(() -> dashboardService.getMonthlyExpenses(userId), DashboardOverviewResponse::setMonthlyExpenses));
+        sections.put("recentTransactions", submit(() -> dashboardService.getRecentTransactions(userId), DashboardOverviewResponse::setRecentTransactions));
+
+        sections.forEach((name, section) -> {
+            if (!section.collect(overview, deadline)) {
+                overview.getUnavailableSections().add(name);
+            }
+        });
+        if (!overview.isComplete()) {
+            log.warn("Visão geral do dashboard incompleta para usuário {}: {}", userId, overview.getUnavailableSections());
+        }
+        return overview;
+    }
+
+    private <T> Section<T> submit(Supplier<T> loader, BiConsumer<DashboardOverviewResponse, T> setter) {
+        try {
+            return new Section<>(CompletableFuture.supplyAsync(RequestSqlStats.wrap(loader), executor), setter);
+        } catch (RejectedExecutionException e) {
+            return new Section<>(CompletableFuture.failedFuture(e), setter);
+        }
+    }
+
+    /**
+     * Seção em andamento e onde gravar seu resultado
+     * Uma seção que estoura o prazo continua rodando e o resultado fica no cache para a próxima carga
+     */
+    private record Section<T>(CompletableFuture<T> future, BiConsumer<DashboardOverviewResponse, T> setter) {
+
+        boolean collect(DashboardOverviewResponse overview, long deadline) {
+            try {
+                T value = future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                setter.accept(overview, value);
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof RejectedExecutionException)) {
+                    log.error("Erro ao calcular seção do dashboard: {}", e.getCause().getMessage());
+                }
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
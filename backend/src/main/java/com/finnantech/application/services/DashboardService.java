@@ -15,16 +15,27 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.finnantech.domain.entities.Category;
 import com.finnantech.domain.entities.Transaction;
-import com.finnantech.infrastructure.persistence.repositories.CategoryRepository;
+import com.finnantech.infrastructure.cache.UserScopedKeyGenerator;
+import com.finnantech.infrastructure.config.CacheConfig;
+import com.finnantech.infrastructure.persistence.projections.CategoryExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlyExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlySummaryProjection;
+import com.finnantech.infrastructure.persistence.projections.PeriodComparisonProjection;
+import com.finnantech.infrastructure.persistence.repositories.MonthlyRollupRepository;
 import com.finnantech.infrastructure.persistence.repositories.TransactionRepository;
+import com.finnantech.infrastructure.web.dtos.BudgetResponse;
+import com.finnantech.infrastructure.web.dtos.CategoryComparisonResponse;
 import com.finnantech.infrastructure.web.dtos.CategoryStatsResponse;
 import com.finnantech.infrastructure.web.dtos.DashboardSummaryResponse;
 import com.finnantech.infrastructure.web.dtos.MonthlyExpensesResponse;
+import com.finnantech.infrastructure.web.dtos.PeriodComparisonResponse;
+import com.finnantech.infrastructure.web.dtos.PeriodSummaryResponse;
 import com.finnantech.infrastructure.web.dtos.RecentTransactionResponse;
 
 /**
@@ -34,31 +45,44 @@ import com.finnantech.infrastructure.web.dtos.RecentTransactionResponse;
 @Transactional(readOnly = true)
 public class DashboardService {
 
+    private static final DateTimeFormatter MONTH_YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
     @Autowired
     private TransactionRepository transactionRepository;
     
     @Autowired
-    private CategoryRepository categoryRepository;
+    private CategoryCatalogService categoryCatalog;
+    
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+    
+    @Autowired
+    private BudgetService budgetService;
 
     /**
      * Obtém resumo financeiro geral baseado em dados reais
+     * Mês atual e anterior são agregados em uma única consulta
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_SUMMARY, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public DashboardSummaryResponse getDashboardSummary(String userId) {
         LocalDate currentDate = LocalDate.now();
-        LocalDate firstDayOfMonth = currentDate.withDayOfMonth(1);
-        LocalDate lastDayOfMonth = currentDate.withDayOfMonth(currentDate.lengthOfMonth());
+        YearMonth currentMonth = YearMonth.from(currentDate);
+        YearMonth lastMonth = currentMonth.minusMonths(1);
         
-        // Mês anterior
-        LocalDate firstDayOfLastMonth = firstDayOfMonth.minusMonths(1);
-        LocalDate lastDayOfLastMonth = firstDayOfLastMonth.withDayOfMonth(firstDayOfLastMonth.lengthOfMonth());
+        String currentMonthYear = currentMonth.format(MONTH_YEAR_FORMATTER);
+        String lastMonthYear = lastMonth.format(MONTH_YEAR_FORMATTER);
+
+        Map<String, MonthlySummaryProjection> summaries = getMonthlySummaries(userId, List.of(currentMonthYear, lastMonthYear));
+        MonthlySummaryProjection current = summaries.get(currentMonthYear);
+        MonthlySummaryProjection last = summaries.get(lastMonthYear);
 
         // Totais do mês atual
-        BigDecimal currentMonthIncomes = transactionRepository.getTotalIncomeByUserAndPeriod(userId, firstDayOfMonth, lastDayOfMonth);
-        BigDecimal currentMonthExpenses = transactionRepository.getTotalExpensesByUserAndPeriod(userId, firstDayOfMonth, lastDayOfMonth);
+        BigDecimal currentMonthIncomes = totalIncome(current);
+        BigDecimal currentMonthExpenses = totalExpenses(current);
         
         // Totais do mês anterior
-        BigDecimal lastMonthIncomes = transactionRepository.getTotalIncomeByUserAndPeriod(userId, firstDayOfLastMonth, lastDayOfLastMonth);
-        BigDecimal lastMonthExpenses = transactionRepository.getTotalExpensesByUserAndPeriod(userId, firstDayOfLastMonth, lastDayOfLastMonth);
+        BigDecimal lastMonthIncomes = totalIncome(last);
+        BigDecimal lastMonthExpenses = totalExpenses(last);
 
         // Calcular variações percentuais
         BigDecimal incomesVariation = calculatePercentageVariation(lastMonthIncomes, currentMonthIncomes);
@@ -70,15 +94,11 @@ public class DashboardService {
         BigDecimal balanceVariation = calculatePercentageVariation(lastBalance, currentBalance);
 
         // Estatísticas adicionais
-        List<Transaction> allTransactions = transactionRepository.findByUserAndDateRange(userId, firstDayOfMonth, lastDayOfMonth);
-        int transactionCount = allTransactions.size();
+        int transactionCount = transactionCount(current);
         
         BigDecimal averageAmount = BigDecimal.ZERO;
         if (transactionCount > 0) {
-            BigDecimal totalAmount = allTransactions.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            averageAmount = totalAmount.divide(BigDecimal.valueOf(transactionCount), 2, RoundingMode.HALF_UP);
+            averageAmount = current.getTotalAmount().divide(BigDecimal.valueOf(transactionCount), 2, RoundingMode.HALF_UP);
         }
 
         DashboardSummaryResponse summary = new DashboardSummaryResponse();
@@ -90,7 +110,7 @@ public class DashboardService {
         summary.setVariacaoDespesas(expensesVariation);
         summary.setVariacaoSaldo(balanceVariation);
         summary.setQuantidadeTransacoes(transactionCount);
-        summary.setPeriodoReferencia(currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM")));
+        summary.setPeriodoReferencia(currentMonthYear);
         summary.setMetaMensal(BigDecimal.valueOf(5000)); // Meta padrão, pode ser configurável
         summary.setGastoMedio(averageAmount);
         summary.setEconomiaEsperada(currentBalance.max(BigDecimal.ZERO));
@@ -102,24 +122,23 @@ public class DashboardService {
     /**
      * Obtém resumo mensal específico baseado em dados reais
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_MONTHLY_SUMMARY, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public DashboardSummaryResponse getMonthlySummary(String userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate firstDay = yearMonth.atDay(1);
-        LocalDate lastDay = yearMonth.atEndOfMonth();
+        String monthYear = yearMonth.format(MONTH_YEAR_FORMATTER);
 
-        BigDecimal totalIncomes = transactionRepository.getTotalIncomeByUserAndPeriod(userId, firstDay, lastDay);
-        BigDecimal totalExpenses = transactionRepository.getTotalExpensesByUserAndPeriod(userId, firstDay, lastDay);
-        BigDecimal balance = totalIncomes.subtract(totalExpenses);
+        MonthlySummaryProjection monthSummary = getMonthlySummaries(userId, List.of(monthYear)).get(monthYear);
 
-        List<Transaction> monthTransactions = transactionRepository.findByUserAndDateRange(userId, firstDay, lastDay);
-        int transactionCount = monthTransactions.size();
+        BigDecimal totalIncomes = totalIncome(monthSummary);
+        BigDecimal totalExpenses = totalExpenses(monthSummary);
+        BigDecimal balance = totalIncomes.subtract(totalExpenses);
 
         DashboardSummaryResponse summary = new DashboardSummaryResponse();
         summary.setTotalReceitas(totalIncomes);
         summary.setTotalDespesas(totalExpenses);
         summary.setSaldoAtual(balance);
-        summary.setQuantidadeTransacoes(transactionCount);
-        summary.setPeriodoReferencia(yearMonth.format(DateTimeFormatter.ofPattern("yyyy-MM")));
+        summary.setQuantidadeTransacoes(transactionCount(monthSummary));
+        summary.setPeriodoReferencia(monthYear);
         summary.setUltimaAtualizacao(LocalDateTime.now());
         
         return summary;
@@ -128,37 +147,30 @@ public class DashboardService {
     /**
      * Obtém estatísticas por categoria baseado em dados reais
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_CATEGORY_STATS, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public List<CategoryStatsResponse> getCategoryStats(String userId) {
-        LocalDate currentDate = LocalDate.now();
-        LocalDate firstDayOfMonth = currentDate.withDayOfMonth(1);
-        LocalDate lastDayOfMonth = currentDate.withDayOfMonth(currentDate.lengthOfMonth());
+        String currentMonthYear = YearMonth.now().format(MONTH_YEAR_FORMATTER);
 
-        // Buscar gastos por categoria
-        List<Object[]> expensesByCategory = transactionRepository.getExpensesByCategoryAndPeriod(userId, firstDayOfMonth, lastDayOfMonth);
+        // Buscar gastos e quantidade de transações por categoria nos agregados do mês
+        List<CategoryExpenseProjection> expensesByCategory = monthlyRollupRepository.getExpensesByCategory(userId, currentMonthYear);
         
         // Calcular total de despesas para percentuais
         BigDecimal totalExpenses = expensesByCategory.stream()
-            .map(row -> (BigDecimal) row[1])
+            .map(CategoryExpenseProjection::getTotalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         // Buscar informações das categorias
-        Map<String, Category> categoriesMap = categoryRepository.findAllAvailableForUser(userId)
-            .stream()
-            .collect(Collectors.toMap(Category::getId, category -> category));
+        Map<String, Category> categoriesMap = categoryCatalog.getCategoriesMapForUser(userId);
 
         List<CategoryStatsResponse> categoryStats = new ArrayList<>();
         
-        for (Object[] row : expensesByCategory) {
-            String categoryId = (String) row[0];
-            BigDecimal amount = (BigDecimal) row[1];
+        for (CategoryExpenseProjection row : expensesByCategory) {
+            String categoryId = row.getCategoryId();
+            BigDecimal amount = row.getTotalAmount();
             
             Category category = categoriesMap.get(categoryId);
             if (category == null) continue;
 
-            // Contar transações da categoria
-            List<Transaction> categoryTransactions = transactionRepository.findByUserAndCategory(userId, categoryId);
-            int transactionCount = categoryTransactions.size();
-
             // Calcular percentual
             double percentage = totalExpenses.compareTo(BigDecimal.ZERO) > 0 
                 ? amount.divide(totalExpenses, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100)).doubleValue()
@@ -168,7 +180,7 @@ public class DashboardService {
                 categoryId,
                 category.getName(),
                 amount,
-                transactionCount,
+                row.getTransactionCount().intValue(),
                 percentage
             );
             categoryStats.add(stats);
@@ -183,6 +195,7 @@ public class DashboardService {
     /**
      * Obtém despesas mensais para gráfico de barras
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_MONTHLY_EXPENSES, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public List<MonthlyExpensesResponse> getMonthlyExpenses(String userId) {
         LocalDate currentDate = LocalDate.now();
         LocalDate startDate = currentDate.minusMonths(5).withDayOfMonth(1);
@@ -194,8 +207,16 @@ public class DashboardService {
     /**
      * Obtém despesas mensais por período específico
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_MONTHLY_EXPENSES, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public List<MonthlyExpensesResponse> getMonthlyExpensesByPeriod(String userId, LocalDate startDate, LocalDate endDate) {
-        List<Object[]> monthlyData = transactionRepository.getMonthlyExpenses(userId, startDate, endDate);
+        String startMonthYear = startDate.format(MONTH_YEAR_FORMATTER);
+        String endMonthYear = endDate.format(MONTH_YEAR_FORMATTER);
+        
+        // Períodos de meses completos são servidos pelos agregados; meses parciais exigem as transações
+        boolean wholeMonths = startDate.getDayOfMonth() == 1 && endDate.equals(YearMonth.from(endDate).atEndOfMonth());
+        List<MonthlyExpenseProjection> monthlyData = wholeMonths
+            ? monthlyRollupRepository.getMonthlyExpenses(userId, startMonthYear, endMonthYear)
+            : transactionRepository.getMonthlyExpenses(userId, startMonthYear, endMonthYear, startDate, endDate);
         
         // Criar mapa para todos os meses no período
         Map<String, MonthlyExpensesResponse> monthlyExpensesMap = new HashMap<>();
@@ -203,40 +224,21 @@ public class DashboardService {
         // Inicializar com zeros para todos os meses no período
         LocalDate currentMonth = startDate.withDayOfMonth(1);
         while (!currentMonth.isAfter(endDate)) {
-            String monthYear = currentMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+            String monthYear = currentMonth.format(MONTH_YEAR_FORMATTER);
             String monthName = currentMonth.format(DateTimeFormatter.ofPattern("MMMM"));
             monthlyExpensesMap.put(monthYear, new MonthlyExpensesResponse(monthYear, monthName, BigDecimal.ZERO, 0));
             currentMonth = currentMonth.plusMonths(1);
         }
 
-        // Preencher com dados reais
-        for (Object[] row : monthlyData) {
-            Integer year = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            BigDecimal amount = (BigDecimal) row[2];
-            
-            // Formatar mês-ano como string
-            String monthYear = String.format("%d-%02d", year, month);
-            
-            MonthlyExpensesResponse expenses = monthlyExpensesMap.get(monthYear);
+        // Preencher com dados reais (total e quantidade já vêm agregados por mês)
+        for (MonthlyExpenseProjection row : monthlyData) {
+            MonthlyExpensesResponse expenses = monthlyExpensesMap.get(row.getMonthYear());
             if (expenses != null) {
-                expenses.setDespesas(amount);
+                expenses.setDespesas(row.getTotalAmount());
+                expenses.setQuantidadeTransacoes(row.getTransactionCount().intValue());
             }
         }
 
-        // Contar transações de despesa por mês
-        for (MonthlyExpensesResponse expenses : monthlyExpensesMap.values()) {
-            LocalDate firstDay = YearMonth.parse(expenses.getMesAno()).atDay(1);
-            LocalDate lastDay = YearMonth.parse(expenses.getMesAno()).atEndOfMonth();
-            
-            List<Transaction> monthExpenseTransactions = transactionRepository.findByUserAndDateRange(userId, firstDay, lastDay)
-                .stream()
-                .filter(Transaction::isExpense)
-                .collect(Collectors.toList());
-                
-            expenses.setQuantidadeTransacoes(monthExpenseTransactions.size());
-        }
-
         return monthlyExpensesMap.values()
             .stream()
             .sorted(Comparator.comparing(MonthlyExpensesResponse::getMesAno))
@@ -244,16 +246,86 @@ public class DashboardService {
     }
 
     /**
-     * Compara períodos baseado em dados reais
+     * Compara dois períodos (mês, trimestre, ano ou intervalo personalizado)
+     * Totais e variações por categoria saem de uma única consulta agrupada por (tipo, categoria),
+     * com CASE sobre o período de cada linha; em Java só são combinadas as linhas agrupadas
+     * Períodos de meses completos são servidos pelos agregados mensais
      */
-    public Object comparePeriods(String userId, String period1, String period2) {
-        // TODO: Implementar comparação de períodos com dados reais
-        return "{\"period1\": \"" + period1 + "\", \"period2\": \"" + period2 + "\", \"difference\": 0.0, \"status\": \"no_data\"}";
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_PERIOD_COMPARISON, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
+    public PeriodComparisonResponse comparePeriods(String userId, String period1, String period2) {
+        ComparisonPeriod first = ComparisonPeriod.parse(period1);
+        ComparisonPeriod second = ComparisonPeriod.parse(period2);
+
+        List<PeriodComparisonProjection> rows = first.isWholeMonths() && second.isWholeMonths()
+            ? monthlyRollupRepository.comparePeriods(userId,
+                first.startMonthYear(), first.endMonthYear(), second.startMonthYear(), second.endMonthYear())
+            : transactionRepository.comparePeriods(userId,
+                first.startDate(), first.endDate(), second.startDate(), second.endDate(),
+                min(first.startDate(), second.startDate()), max(first.endDate(), second.endDate()));
+
+        Map<String, Category> categoriesMap = categoryCatalog.getCategoriesMapForUser(userId);
+
+        BigDecimal income1 = BigDecimal.ZERO;
+        BigDecimal income2 = BigDecimal.ZERO;
+        BigDecimal expenses1 = BigDecimal.ZERO;
+        BigDecimal expenses2 = BigDecimal.ZERO;
+        long count1 = 0;
+        long count2 = 0;
+        List<CategoryComparisonResponse> categories = new ArrayList<>();
+
+        for (PeriodComparisonProjection row : rows) {
+            BigDecimal amount1 = row.getAmount1();
+            BigDecimal amount2 = row.getAmount2();
+            if ("RECEITA".equals(row.getType())) {
+                income1 = income1.add(amount1);
+                income2 = income2.add(amount2);
+            } else {
+                expenses1 = expenses1.add(amount1);
+                expenses2 = expenses2.add(amount2);
+            }
+            count1 += row.getCount1();
+            count2 += row.getCount2();
+
+            Category category = categoriesMap.get(row.getCategoryId());
+            CategoryComparisonResponse comparison = new CategoryComparisonResponse();
+            comparison.setCategoryId(row.getCategoryId());
+            comparison.setCategoryName(category != null ? category.getName() : "Categoria Desconhecida");
+            comparison.setType(row.getType());
+            comparison.setPeriod1Amount(amount1);
+            comparison.setPeriod2Amount(amount2);
+            comparison.setDifference(amount2.subtract(amount1));
+            comparison.setVariation(calculatePercentageVariation(amount1, amount2));
+            comparison.setPeriod1Count(row.getCount1());
+            comparison.setPeriod2Count(row.getCount2());
+            categories.add(comparison);
+        }
+
+        // Maiores variações absolutas primeiro
+        categories.sort(Comparator.comparing((CategoryComparisonResponse c) -> c.getDifference().abs()).reversed());
+
+        PeriodSummaryResponse summary1 = new PeriodSummaryResponse(first.label(), first.startDate(), first.endDate(),
+            income1, expenses1, count1);
+        PeriodSummaryResponse summary2 = new PeriodSummaryResponse(second.label(), second.startDate(), second.endDate(),
+            income2, expenses2, count2);
+
+        PeriodComparisonResponse comparison = new PeriodComparisonResponse();
+        comparison.setPeriod1(summary1);
+        comparison.setPeriod2(summary2);
+        comparison.setIncomeDifference(income2.subtract(income1));
+        comparison.setExpensesDifference(expenses2.subtract(expenses1));
+        comparison.setBalanceDifference(summary2.getBalance().subtract(summary1.getBalance()));
+        comparison.setTransactionCountDifference(count2 - count1);
+        comparison.setIncomeVariation(calculatePercentageVariation(income1, income2));
+        comparison.setExpensesVariation(calculatePercentageVariation(expenses1, expenses2));
+        comparison.setBalanceVariation(calculatePercentageVariation(summary1.getBalance(), summary2.getBalance()));
+        comparison.setCategories(categories);
+        return comparison;
     }
 
     /**
      * Obtém transações recentes baseado em dados reais
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_RECENT_TRANSACTIONS, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
     public List<RecentTransactionResponse> getRecentTransactions(String userId) {
         List<Transaction> recentTransactions = transactionRepository.findLatestTransactionsByUser(userId, 10);
         
@@ -262,9 +334,7 @@ public class DashboardService {
             .map(Transaction::getCategoryId)
             .collect(Collectors.toSet());
         
-        Map<String, Category> categoriesMap = categoryRepository.findAllById(categoryIds)
-            .stream()
-            .collect(Collectors.toMap(Category::getId, category -> category));
+        Map<String, Category> categoriesMap = categoryCatalog.findByIds(userId, categoryIds);
 
         return recentTransactions.stream()
             .map(transaction -> {
@@ -290,11 +360,39 @@ public class DashboardService {
     }
 
     /**
-     * Obtém orçamentos baseado em dados reais
+     * Obtém os orçamentos do mês atual (valores gastos mantidos incrementalmente)
+     */
+    public List<BudgetResponse> getBudgets(String userId) {
+        return budgetService.getBudgetsForMonth(userId, YearMonth.now().format(MONTH_YEAR_FORMATTER));
+    }
+
+    /**
+     * Busca os agregados mensais e indexa pelo mês (YYYY-MM)
      */
-    public Object getBudgets(String userId) {
-        // TODO: Implementar quando entidade Budget existir
-        return "[]";
+    private Map<String, MonthlySummaryProjection> getMonthlySummaries(String userId, List<String> monthYears) {
+        return monthlyRollupRepository.getMonthlySummaries(userId, monthYears)
+            .stream()
+            .collect(Collectors.toMap(MonthlySummaryProjection::getMonthYear, summary -> summary));
+    }
+
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private BigDecimal totalIncome(MonthlySummaryProjection summary) {
+        return summary != null ? summary.getTotalIncome() : BigDecimal.ZERO;
+    }
+
+    private BigDecimal totalExpenses(MonthlySummaryProjection summary) {
+        return summary != null ? summary.getTotalExpenses() : BigDecimal.ZERO;
+    }
+
+    private int transactionCount(MonthlySummaryProjection summary) {
+        return summary != null ? summary.getTransactionCount().intValue() : 0;
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.finnantech.application.services;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Atualiza periodicamente as cotações das carteiras (investments.prices.interval)
+ */
+@Component
+@ConditionalOnProperty(name = "investments.prices.enabled", havingValue = "true", matchIfMissing = true)
+public class InvestmentPriceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(InvestmentPriceScheduler.class);
+
+    private final InvestmentValuationService valuationService;
+
+    public InvestmentPriceScheduler(InvestmentValuationService valuationService) {
+        this.valuationService = valuationService;
+    }
+
+    @Scheduled(initialDelayString = "${investments.prices.initial-delay:PT1M}",
+               fixedDelayString = "${investments.prices.interval:PT5M}")
+    public void refresh() {
+        try {
+            valuationService.refreshFromSource();
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao atualizar cotações: {}", e.getMessage());
+        }
+    }
+}
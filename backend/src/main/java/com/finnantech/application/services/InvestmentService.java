@@ -0,0 +1,157 @@
+package com.finnantech.application.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.finnantech.domain.entities.Investment;
+import com.finnantech.domain.entities.InvestmentType;
+import com.finnantech.infrastructure.cache.UserScopedKeyGenerator;
+import com.finnantech.infrastructure.config.CacheConfig;
+import com.finnantech.infrastructure.persistence.projections.PortfolioTypeProjection;
+import com.finnantech.infrastructure.persistence.repositories.InvestmentRepository;
+import com.finnantech.infrastructure.web.dtos.InvestmentCreateRequest;
+import com.finnantech.infrastructure.web.dtos.InvestmentResponse;
+import com.finnantech.infrastructure.web.dtos.PortfolioAllocationResponse;
+import com.finnantech.infrastructure.web.dtos.PortfolioResponse;
+
+/**
+ * Service para posições de investimento e totais da carteira
+ * Os totais vêm de uma agregação por tipo no banco e ficam em cache por usuário; o cache é
+ * invalidado pelas escritas do usuário e limpo a cada atualização de cotações
+ */
+@Service
+@Transactional
+public class InvestmentService {
+
+    private final InvestmentRepository investmentRepository;
+
+    public InvestmentService(InvestmentRepository investmentRepository) {
+        this.investmentRepository = investmentRepository;
+    }
+
+    /**
+     * Lista as posições ativas do usuário
+     */
+    @Transactional(readOnly = true)
+    public List<InvestmentResponse> getInvestments(String userId) {
+        return investmentRepository.findActiveByUser(userId).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    /**
+     * Registra uma posição; com símbolo, a quantidade é obrigatória para a reavaliação por cotação
+     */
+    public InvestmentResponse createInvestment(String userId, InvestmentCreateRequest request) {
+        String symbol = request.getSymbol() != null && !request.getSymbol().isBlank() ? request.getSymbol() : null;
+        if (symbol != null && request.getQuantity() == null) {
+            throw new IllegalArgumentException("Informe a quantidade para acompanhar a cotação de " + symbol.toUpperCase());
+        }
+        if (request.getMaturityDate() != null && request.getMaturityDate().isBefore(request.getPurchaseDate())) {
+            throw new IllegalArgumentException("Data de vencimento anterior à data da compra");
+        }
+
+        Investment investment = new Investment(
+            userId,
+            request.getName(),
+            InvestmentType.valueOf(request.getType()),
+            request.getInitialAmount(),
+            request.getPurchaseDate()
+        );
+        investment.setSymbol(symbol);
+        investment.setQuantity(request.getQuantity());
+        investment.setAveragePrice(request.getAveragePrice() != null || request.getQuantity() == null
+            ? request.getAveragePrice()
+            : request.getInitialAmount().divide(request.getQuantity(), 2, RoundingMode.HALF_UP));
+        investment.setMaturityDate(request.getMaturityDate());
+        investment.setBroker(request.getBroker());
+        investment.setNotes(request.getNotes());
+
+        return toResponse(investmentRepository.save(investment));
+    }
+
+    /**
+     * Desativa a posição (soft delete)
+     */
+    public void deactivateInvestment(String userId, String investmentId) {
+        Investment investment = investmentRepository.findByIdAndUserId(investmentId, userId)
+            .filter(Investment::getActive)
+            .orElseThrow(() -> new IllegalArgumentException("Investimento não encontrado: " + investmentId));
+        investment.deactivate();
+        investmentRepository.save(investment);
+    }
+
+    /**
+     * Totais da carteira do usuário, com alocação por tipo
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.INVESTMENT_PORTFOLIO, keyGenerator = UserScopedKeyGenerator.BEAN_NAME)
+    public PortfolioResponse getPortfolio(String userId) {
+        List<PortfolioTypeProjection> rows = investmentRepository.getPortfolioByType(userId);
+
+        BigDecimal invested = BigDecimal.ZERO;
+        BigDecimal current = BigDecimal.ZERO;
+        long holdings = 0;
+        LocalDateTime lastUpdate = null;
+        for (PortfolioTypeProjection row : rows) {
+            invested = invested.add(row.getInvestedAmount());
+            current = current.add(row.getCurrentAmount());
+            holdings += row.getHoldings();
+            if (row.getLastUpdate() != null && (lastUpdate == null || row.getLastUpdate().isAfter(lastUpdate))) {
+                lastUpdate = row.getLastUpdate();
+            }
+        }
+
+        BigDecimal total = current;
+        List<PortfolioAllocationResponse> allocation = rows.stream()
+            .map(row -> new PortfolioAllocationResponse(
+                row.getType().name(),
+                row.getHoldings(),
+                row.getInvestedAmount(),
+                row.getCurrentAmount(),
+                total.signum() > 0
+                    ? row.getCurrentAmount().divide(total, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100)).doubleValue()
+                    : 0.0))
+            .sorted(Comparator.comparing(PortfolioAllocationResponse::getCurrentAmount).reversed())
+            .toList();
+
+        PortfolioResponse portfolio = new PortfolioResponse();
+        portfolio.setInvestedAmount(invested);
+        portfolio.setCurrentAmount(current);
+        portfolio.setProfitLoss(current.subtract(invested));
+        portfolio.setProfitLossPercent(invested.signum() > 0
+            ? current.subtract(invested).multiply(BigDecimal.valueOf(100)).divide(invested, 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO);
+        portfolio.setHoldings(holdings);
+        portfolio.setLastPriceUpdate(lastUpdate);
+        portfolio.setAllocation(allocation);
+        return portfolio;
+    }
+
+    private InvestmentResponse toResponse(Investment investment) {
+        InvestmentResponse response = new InvestmentResponse();
+        response.setId(investment.getId());
+        response.setName(investment.getName());
+        response.setType(investment.getType().name());
+        response.setSymbol(investment.getSymbol());
+        response.setInitialAmount(investment.getInitialAmount());
+        response.setCurrentAmount(investment.getMarketValue());
+        response.setQuantity(investment.getQuantity());
+        response.setAveragePrice(investment.getAveragePrice());
+        response.setProfitLoss(investment.getProfitLoss());
+        response.setProfitLossPercent(investment.getProfitLossPercent());
+        response.setPurchaseDate(investment.getPurchaseDate());
+        response.setMaturityDate(investment.getMaturityDate());
+        response.setLastUpdate(investment.getLastUpdate());
+        response.setBroker(investment.getBroker());
+        response.setNotes(investment.getNotes());
+        return response;
+    }
+}
@@ -0,0 +1,98 @@
+package com.finnantech.application.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.finnantech.infrastructure.config.CacheConfig;
+import com.finnantech.infrastructure.persistence.investments.InvestmentValuationWriter;
+import com.finnantech.infrastructure.persistence.repositories.InvestmentRepository;
+import com.finnantech.infrastructure.prices.PriceQuote;
+import com.finnantech.infrastructure.prices.PriceSource;
+
+/**
+ * Service de reavaliação das carteiras a partir de cotações
+ * Um lote de cotações é aplicado em uma transação, com um UPDATE em conjunto por symbol
+ * (todas as posições do ativo, de todos os usuários); em seguida o cache de carteiras é limpo
+ */
+@Service
+public class InvestmentValuationService {
+
+    private static final Logger log = LoggerFactory.getLogger(InvestmentValuationService.class);
+
+    private final InvestmentRepository investmentRepository;
+    private final InvestmentValuationWriter valuationWriter;
+    private final ObjectProvider<PriceSource> priceSource;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public InvestmentValuationService(InvestmentRepository investmentRepository, InvestmentValuationWriter valuationWriter,
+                                      ObjectProvider<PriceSource> priceSource, CacheManager cacheManager,
+                                      PlatformTransactionManager transactionManager) {
+        this.investmentRepository = investmentRepository;
+        this.valuationWriter = valuationWriter;
+        this.priceSource = priceSource;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Resultado de uma aplicação de cotações
+     */
+    public record ValuationResult(int quotes, int holdings, long elapsedMillis) {
+    }
+
+    /**
+     * Aplica um lote de cotações; para símbolos repetidos vale a última
+     */
+    public ValuationResult applyPrices(Collection<PriceQuote> quotes) {
+        long start = System.currentTimeMillis();
+        Map<String, PriceQuote> bySymbol = new LinkedHashMap<>();
+        quotes.forEach(quote -> bySymbol.put(quote.symbol(), quote));
+        if (bySymbol.isEmpty()) {
+            return new ValuationResult(0, 0, 0);
+        }
+
+        List<PriceQuote> latest = new ArrayList<>(bySymbol.values());
+        Integer holdings = transactionTemplate.execute(status -> valuationWriter.apply(latest, LocalDateTime.now()));
+        Cache portfolios = cacheManager.getCache(CacheConfig.INVESTMENT_PORTFOLIO);
+        if (portfolios != null) {
+            portfolios.clear();
+        }
+
+        ValuationResult result = new ValuationResult(latest.size(), holdings != null ? holdings : 0,
+            System.currentTimeMillis() - start);
+        log.info("Cotações aplicadas: {} símbolos, {} posições reavaliadas em {} ms",
+            result.quotes(), result.holdings(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * Busca na fonte de cotações configurada os preços dos símbolos em carteira e os aplica
+     * Sem fonte configurada não faz nada
+     */
+    public ValuationResult refreshFromSource() throws IOException {
+        PriceSource source = priceSource.getIfAvailable();
+        if (source == null) {
+            return new ValuationResult(0, 0, 0);
+        }
+        List<String> symbols = investmentRepository.findActiveSymbols();
+        if (symbols.isEmpty()) {
+            return new ValuationResult(0, 0, 0);
+        }
+        return applyPrices(source.fetch(symbols));
+    }
+}
@@ -0,0 +1,68 @@
+package com.finnantech.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.finnantech.infrastructure.persistence.rollups.BudgetSpendingWriter;
+import com.finnantech.infrastructure.persistence.rollups.MonthlyRollupWriter;
+
+/**
+ * Service para manutenção dos agregados mensais (monthly_rollups)
+ * A atualização incremental é feita pelo MonthlyRollupEventListener; aqui ficam as
+ * reconstruções completas usadas para backfill, que também recalculam o gasto dos orçamentos
+ */
+@Service
+@Transactional
+public class MonthlyRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupService.class);
+
+    private final MonthlyRollupWriter rollupWriter;
+    private final BudgetSpendingWriter budgetWriter;
+
+    @Value("${rollups.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public MonthlyRollupService(MonthlyRollupWriter rollupWriter, BudgetSpendingWriter budgetWriter) {
+        this.rollupWriter = rollupWriter;
+        this.budgetWriter = budgetWriter;
+    }
+
+    /**
+     * Reconstrói os agregados de um usuário a partir das transações
+     */
+    public int rebuildForUser(String userId) {
+        int rows = rollupWriter.rebuildForUser(userId);
+        budgetWriter.rebuildForUser(userId);
+        return rows;
+    }
+
+    /**
+     * Reconstrói os agregados de todos os usuários a partir das transações
+     */
+    public int rebuildAll() {
+        int rows = rollupWriter.rebuildAll();
+        budgetWriter.rebuildAll();
+        return rows;
+    }
+
+    /**
+     * Reconstrução opcional na inicialização (rollups.rebuild-on-startup, desligada por padrão)
+     * Roda com o servidor já aceitando requisições: deltas gravados ao mesmo tempo podem se perder
+     * ou duplicar, então só deve ser ligada sem escritas concorrentes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int rows = rebuildAll();
+        log.info("Agregados mensais reconstruídos: {} linhas em {} ms", rows, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,236 @@
+package com.finnantech.application.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.finnantech.domain.entities.RecurringTransaction;
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.infrastructure.persistence.projections.DueRecurringProjection;
+import com.finnantech.infrastructure.persistence.repositories.RecurringTransactionRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Motor que materializa as transações recorrentes vencidas
+ * Os modelos vencidos são lidos em blocos por next_execution e divididos em partições por usuário,
+ * processadas em paralelo num pool limitado; cada partição roda numa transação curta própria
+ * O avanço de cada modelo é um compare-and-set em (next_execution, execution_count) e as
+ * transações geradas têm id determinístico por (modelo, data), então reexecuções e catch-up
+ * após indisponibilidade não duplicam lançamentos
+ */
+@Service
+public class RecurringTransactionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransactionEngine.class);
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${recurring.engine.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${recurring.engine.threads:4}")
+    private int threads;
+
+    @Value("${recurring.engine.max-occurrences-per-run:400}")
+    private int maxOccurrencesPerRun;
+
+    private ExecutorService executor;
+
+    public RecurringTransactionEngine(RecurringTransactionRepository recurringRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.recurringRepository = recurringRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "recurring-engine-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Resultado de uma execução do motor
+     */
+    public record RunResult(int advanced, int transactions, int failed, long elapsedMillis) {
+    }
+
+    /**
+     * Processa todos os modelos com next_execution até a data informada
+     * Execuções concorrentes na mesma instância são descartadas
+     */
+    public RunResult runDue(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            return new RunResult(0, 0, 0, 0);
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger templates = new AtomicInteger();
+        AtomicInteger transactions = new AtomicInteger();
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        try {
+            while (true) {
+                List<DueRecurringProjection> due = recurringRepository
+                    .findDue(today, PageRequest.of(0, chunkSize + failed.size()))
+                    .stream()
+                    .filter(row -> !failed.contains(row.getId()))
+                    .toList();
+                if (due.isEmpty()) {
+                    break;
+                }
+
+                Map<Integer, List<String>> partitions = due.stream().collect(Collectors.groupingBy(
+                    row -> Math.floorMod(row.getUserId().hashCode(), threads),
+                    Collectors.mapping(DueRecurringProjection::getId, Collectors.toList())));
+
+                int before = templates.get();
+                CompletableFuture.allOf(partitions.values().stream()
+                    .map(ids -> CompletableFuture.runAsync(
+                        () -> processPartition(ids, today, templates, transactions, failed), executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+
+                if (templates.get() == before && due.stream().noneMatch(row -> failed.contains(row.getId()))) {
+                    // nenhum avanço: outra instância está processando o mesmo bloco
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        RunResult result = new RunResult(templates.get(), transactions.get(), failed.size(), System.currentTimeMillis() - start);
+        if (result.advanced() > 0 || result.failed() > 0) {
+            log.info("Recorrências processadas: {} avanços de modelos, {} transações geradas, {} falhas em {} ms",
+                result.advanced(), result.transactions(), result.failed(), result.elapsedMillis());
+        }
+        return result;
+    }
+
+    /**
+     * Processa a partição numa única transação; se ela falhar, refaz modelo a modelo
+     * para isolar o que falhou sem bloquear os demais
+     */
+    private void processPartition(List<String> ids, LocalDate today, AtomicInteger templates,
+                                  AtomicInteger transactions, Set<String> failed) {
+        try {
+            int[] result = transactionTemplate.execute(status -> process(ids, today));
+            templates.addAndGet(result[0]);
+            transactions.addAndGet(result[1]);
+        } catch (RuntimeException partitionError) {
+            for (String id : ids) {
+                try {
+                    int[] result = transactionTemplate.execute(status -> process(List.of(id), today));
+                    templates.addAndGet(result[0]);
+                    transactions.addAndGet(result[1]);
+                } catch (RuntimeException e) {
+                    failed.add(id);
+                    log.error("Falha ao processar transação recorrente {}: {}", id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gera as ocorrências vencidas de cada modelo e avança o controle de execução
+     * Retorna {modelos avançados, transações geradas}
+     */
+    private int[] process(List<String> ids, LocalDate today) {
+        int advanced = 0;
+        int generated = 0;
+        for (RecurringTransaction template : recurringRepository.findAllById(ids)) {
+            LocalDate next = template.getNextExecution();
+            int count = template.getExecutionCount();
+            List<LocalDate> occurrences = new ArrayList<>();
+
+            while (!next.isAfter(today) && occurrences.size() < maxOccurrencesPerRun
+                    && template.allowsOccurrence(next, count)) {
+                occurrences.add(next);
+                count++;
+                next = template.nextOccurrence(next);
+            }
+            boolean finished = !template.allowsOccurrence(next, count);
+
+            int claimed = recurringRepository.advance(
+                template.getId(),
+                template.getNextExecution(),
+                template.getExecutionCount(),
+                next,
+                count,
+                occurrences.isEmpty() ? template.getLastExecution() : occurrences.get(occurrences.size() - 1),
+                !finished,
+                LocalDateTime.now());
+            if (claimed == 0) {
+                continue;
+            }
+
+            for (LocalDate date : occurrences) {
+                entityManager.persist(toTransaction(template, date));
+            }
+            advanced++;
+            generated += occurrences.size();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return new int[] {advanced, generated};
+    }
+
+    private Transaction toTransaction(RecurringTransaction template, LocalDate date) {
+        Transaction transaction = new Transaction(
+            template.getUserId(),
+            template.getCategoryId(),
+            template.getType(),
+            template.getAmount(),
+            template.getDescription(),
+            date
+        );
+        transaction.setId(occurrenceId(template.getId(), date));
+        transaction.setPaymentMethodId(template.getPaymentMethodId());
+        transaction.setNotes(template.getNotes());
+        transaction.setAsRecurring(template.getId());
+        return transaction;
+    }
+
+    /**
+     * Id determinístico da ocorrência: a mesma data do mesmo modelo nunca gera duas transações
+     */
+    static String occurrenceId(String templateId, LocalDate date) {
+        return UUID.nameUUIDFromBytes(("recurring-" + templateId + "-" + date).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.finnantech.application.services;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispara periodicamente o motor de recorrência (recurring.engine.interval)
+ * A primeira execução faz o catch-up do que venceu enquanto a aplicação esteve parada
+ */
+@Component
+@ConditionalOnProperty(name = "recurring.engine.enabled", havingValue = "true", matchIfMissing = true)
+public class RecurringTransactionScheduler {
+
+    private final RecurringTransactionEngine engine;
+
+    public RecurringTransactionScheduler(RecurringTransactionEngine engine) {
+        this.engine = engine;
+    }
+
+    @Scheduled(initialDelayString = "${recurring.engine.initial-delay:PT30S}",
+               fixedDelayString = "${recurring.engine.interval:PT15M}")
+    public void runDue() {
+        engine.runDue(LocalDate.now());
+    }
+}
@@ -0,0 +1,40 @@
+package com.finnantech.application.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.finnantech.domain.entities.Transaction;
+
+/**
+ * Posição na listagem de transações (transaction_date, created_at, id)
+ * Trafega como texto opaco em base64 url-safe; o cliente apenas devolve o valor recebido
+ */
+public record TransactionCursor(LocalDate transactionDate, LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || parts[2].isBlank()) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new TransactionCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.finnantech.application.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.infrastructure.persistence.projections.TransactionExportProjection;
+import com.finnantech.infrastructure.persistence.repositories.TransactionRepository;
+
+/**
+ * Service para exportação das transações de um usuário em CSV ou NDJSON
+ * As linhas vêm de um cursor somente-avante e são escritas direto na saída,
+ * então a memória usada não depende do tamanho do histórico
+ */
+@Service
+public class TransactionExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String[] CSV_HEADER = {
+        "id", "transaction_date", "type", "status", "amount", "currency", "category_id", "category_name",
+        "payment_method_id", "description", "merchant_name", "merchant_category", "notes", "tags", "created_at"
+    };
+
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato de exportação inválido: " + value);
+            }
+        }
+    }
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    public TransactionExportService(TransactionRepository transactionRepository, ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escreve as transações do usuário no período (datas opcionais) e retorna a quantidade exportada
+     * O cabeçalho é enviado antes da consulta para o primeiro byte sair imediatamente
+     */
+    @Transactional(readOnly = true)
+    public long export(String userId, LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rows = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        writer.flush();
+
+        long count = 0;
+        try (Stream<TransactionExportProjection> stream = transactionRepository.streamForExport(userId, startDate, endDate)) {
+            var iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                rows.write(iterator.next());
+                if (++count % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private interface RowWriter {
+        void write(TransactionExportProjection row) throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(TransactionExportProjection row) throws IOException {
+            field(row.getId(), false);
+            field(row.getTransactionDate(), true);
+            field(row.getType(), true);
+            field(row.getStatus(), true);
+            field(row.getAmount() != null ? row.getAmount().toPlainString() : null, true);
+            field(row.getCurrency(), true);
+            field(row.getCategoryId(), true);
+            field(row.getCategoryName(), true);
+            field(row.getPaymentMethodId(), true);
+            field(row.getDescription(), true);
+            field(row.getMerchantName(), true);
+            field(row.getMerchantCategory(), true);
+            field(row.getNotes(), true);
+            field(String.join(";", Transaction.tagsFromJson(row.getTagsJson())), true);
+            field(row.getCreatedAt(), true);
+            writer.write("\r\n");
+        }
+
+        private void field(Object value, boolean separator) throws IOException {
+            if (separator) {
+                writer.write(',');
+            }
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // uma linha por objeto, sem separador do Jackson; flush e fechamento da saída ficam com o export
+            this.generator.setRootValueSeparator(null);
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(TransactionExportProjection row) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", row.getId());
+            generator.writeStringField("transactionDate", String.valueOf(row.getTransactionDate()));
+            generator.writeStringField("type", String.valueOf(row.getType()));
+            generator.writeStringField("status", String.valueOf(row.getStatus()));
+            generator.writeNumberField("amount", row.getAmount());
+            generator.writeStringField("currency", row.getCurrency());
+            generator.writeStringField("categoryId", row.getCategoryId());
+            generator.writeStringField("categoryName", row.getCategoryName());
+            generator.writeStringField("paymentMethodId", row.getPaymentMethodId());
+            generator.writeStringField("description", row.getDescription());
+            generator.writeStringField("merchantName", row.getMerchantName());
+            generator.writeStringField("merchantCategory", row.getMerchantCategory());
+            generator.writeStringField("notes", row.getNotes());
+            generator.writeArrayFieldStart("tags");
+            for (String tag : Transaction.tagsFromJson(row.getTagsJson())) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("createdAt", String.valueOf(row.getCreatedAt()));
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+}
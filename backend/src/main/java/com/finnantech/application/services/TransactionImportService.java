@@ -0,0 +1,236 @@
+package com.finnantech.application.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.CategoryType;
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.domain.entities.TransactionStatus;
+import com.finnantech.domain.entities.TransactionType;
+import com.finnantech.infrastructure.persistence.projections.TransactionFingerprintProjection;
+import com.finnantech.infrastructure.persistence.repositories.PaymentMethodRepository;
+import com.finnantech.infrastructure.persistence.repositories.TransactionRepository;
+import com.finnantech.infrastructure.statements.StatementEntry;
+import com.finnantech.infrastructure.statements.StatementFormat;
+import com.finnantech.infrastructure.web.dtos.TransactionImportResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service para importação de extratos bancários (OFX/CSV)
+ * O extrato é lido de forma incremental; cada lançamento é deduplicado contra conjuntos em memória
+ * carregados com uma única consulta e as transações novas são gravadas em lotes como PENDENTE
+ */
+@Service
+@Transactional
+public class TransactionImportService {
+
+    private static final Set<String> SUPPORTED_CURRENCIES = Set.of("BRL", "USD", "EUR");
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryCatalogService categoryCatalog;
+    private final PaymentMethodRepository paymentMethodRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    public TransactionImportService(TransactionRepository transactionRepository, CategoryCatalogService categoryCatalog,
+                                    PaymentMethodRepository paymentMethodRepository) {
+        this.transactionRepository = transactionRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.paymentMethodRepository = paymentMethodRepository;
+    }
+
+    /**
+     * Importa o extrato para o usuário em uma única transação
+     * Débitos vão para expenseCategoryId e créditos para incomeCategoryId
+     */
+    public TransactionImportResponse importStatement(String userId, Reader statement, StatementFormat format,
+                                                     String expenseCategoryId, String incomeCategoryId,
+                                                     String paymentMethodId) throws IOException {
+        long start = System.currentTimeMillis();
+        String expenseCategory = validateCategory(userId, expenseCategoryId, CategoryType.DESPESA);
+        String incomeCategory = validateCategory(userId, incomeCategoryId, CategoryType.RECEITA);
+        if (paymentMethodId != null
+                && paymentMethodRepository.findActiveIdsByUserAndIdIn(userId, Set.of(paymentMethodId)).isEmpty()) {
+            throw new IllegalArgumentException("Forma de pagamento não encontrada: " + paymentMethodId);
+        }
+
+        ImportRun run = new ImportRun(userId, expenseCategory, incomeCategory, paymentMethodId);
+        format.parser().parse(statement, run::accept);
+        entityManager.flush();
+        entityManager.clear();
+
+        return new TransactionImportResponse(run.read, run.imported, run.duplicates, run.ignored,
+            System.currentTimeMillis() - start);
+    }
+
+    private String validateCategory(String userId, String categoryId, CategoryType type) {
+        if (categoryId == null || categoryId.isBlank()) {
+            return null;
+        }
+        Category category = categoryCatalog.findAvailableForUser(userId, categoryId)
+            .orElseThrow(() -> new IllegalArgumentException("Categoria não encontrada: " + categoryId));
+        if (category.getType() != type && category.getType() != CategoryType.INVESTIMENTO) {
+            throw new IllegalArgumentException("Categoria " + category.getName() + " não é do tipo " + type);
+        }
+        return categoryId;
+    }
+
+    /**
+     * Chave (tipo, valor, data, descrição normalizada) usada quando o lançamento não tem id externo
+     */
+    static String fingerprint(TransactionType type, BigDecimal amount, LocalDate date, String description) {
+        String normalized = Normalizer.normalize(description == null ? "" : description, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase()
+            .replaceAll("[^a-z0-9]+", " ")
+            .trim();
+        return type + "|" + amount.abs().setScale(2, RoundingMode.HALF_EVEN).toPlainString() + "|" + date + "|" + normalized;
+    }
+
+    /**
+     * Estado de uma importação: contagens de deduplicação e contadores
+     */
+    private final class ImportRun {
+
+        private final String userId;
+        private final String expenseCategoryId;
+        private final String incomeCategoryId;
+        private final String paymentMethodId;
+
+        // ids externos já gravados ou vistos neste extrato
+        private final Set<String> externalIds = new HashSet<>();
+        // quantas transações gravadas existem por chave; cada linha repetida do extrato consome uma
+        private final Map<String, Integer> fingerprints = new HashMap<>();
+        // o mesmo, só das transações sem id externo (lançadas manualmente ou importadas de CSV sem id)
+        private final Map<String, Integer> manualFingerprints = new HashMap<>();
+
+        private long read;
+        private long imported;
+        private long duplicates;
+        private long ignored;
+
+        ImportRun(String userId, String expenseCategoryId, String incomeCategoryId, String paymentMethodId) {
+            this.userId = userId;
+            this.expenseCategoryId = expenseCategoryId;
+            this.incomeCategoryId = incomeCategoryId;
+            this.paymentMethodId = paymentMethodId;
+
+            try (Stream<TransactionFingerprintProjection> existing = transactionRepository.streamFingerprintsByUser(userId)) {
+                existing.forEach(row -> {
+                    String key = fingerprint(row.getType(), row.getAmount(), row.getTransactionDate(), row.getDescription());
+                    fingerprints.merge(key, 1, Integer::sum);
+                    if (row.getExternalId() != null) {
+                        externalIds.add(row.getExternalId());
+                    } else {
+                        manualFingerprints.merge(key, 1, Integer::sum);
+                    }
+                });
+            }
+        }
+
+        void accept(StatementEntry entry) {
+            read++;
+            if (entry.amount().signum() == 0) {
+                ignored++;
+                return;
+            }
+
+            String description = description(entry.description());
+            TransactionType type = entry.amount().signum() > 0 ? TransactionType.RECEITA : TransactionType.DESPESA;
+            String key = fingerprint(type, entry.amount(), entry.date(), description);
+            boolean duplicate = entry.externalId() != null
+                ? !externalIds.add(entry.externalId()) || consumeManual(key)
+                : consume(key);
+            if (duplicate) {
+                duplicates++;
+                return;
+            }
+
+            entityManager.persist(toTransaction(entry, type, description));
+            if (++imported % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        /**
+         * A k-ésima linha igual do extrato só é duplicata se já houver ao menos k transações gravadas
+         * com a mesma chave; linhas repetidas dentro do próprio arquivo são lançamentos legítimos
+         */
+        private boolean consume(String key) {
+            Integer remaining = fingerprints.computeIfPresent(key, (k, n) -> n - 1);
+            if (remaining == null || remaining < 0) {
+                return false;
+            }
+            manualFingerprints.computeIfPresent(key, (k, n) -> Math.min(n, remaining));
+            return true;
+        }
+
+        /**
+         * Lançamento com id externo que já foi registrado manualmente
+         */
+        private boolean consumeManual(String key) {
+            Integer remaining = manualFingerprints.computeIfPresent(key, (k, n) -> n - 1);
+            if (remaining == null || remaining < 0) {
+                return false;
+            }
+            fingerprints.computeIfPresent(key, (k, n) -> n - 1);
+            return true;
+        }
+
+        private Transaction toTransaction(StatementEntry entry, TransactionType type, String description) {
+            boolean income = type == TransactionType.RECEITA;
+            String categoryId = income ? incomeCategoryId : expenseCategoryId;
+            if (categoryId == null) {
+                throw new IllegalArgumentException("Extrato contém " + (income ? "créditos" : "débitos")
+                    + "; informe " + (income ? "incomeCategoryId" : "expenseCategoryId"));
+            }
+
+            Transaction transaction = new Transaction(
+                userId,
+                categoryId,
+                type,
+                entry.amount().abs().setScale(2, RoundingMode.HALF_EVEN),
+                description,
+                entry.date()
+            );
+            transaction.setStatus(TransactionStatus.PENDENTE);
+            transaction.setExternalId(entry.externalId());
+            transaction.setPaymentMethodId(paymentMethodId);
+            transaction.setNotes(entry.memo());
+            if (entry.currency() != null && SUPPORTED_CURRENCIES.contains(entry.currency().toUpperCase())) {
+                transaction.setCurrency(entry.currency().toUpperCase());
+            }
+            return transaction;
+        }
+
+        private String description(String description) {
+            if (description == null || description.isBlank()) {
+                return "Transação importada";
+            }
+            String trimmed = description.trim();
+            return trimmed.length() > MAX_DESCRIPTION_LENGTH ? trimmed.substring(0, MAX_DESCRIPTION_LENGTH) : trimmed;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.finnantech.application.services;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.CategoryType;
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.domain.entities.TransactionStatus;
+import com.finnantech.domain.entities.TransactionType;
+import com.finnantech.infrastructure.persistence.repositories.PaymentMethodRepository;
+import com.finnantech.infrastructure.persistence.repositories.TransactionRepository;
+import com.finnantech.infrastructure.persistence.repositories.TransactionSpecifications;
+import com.finnantech.infrastructure.web.dtos.TransactionCreateRequest;
+import com.finnantech.infrastructure.web.dtos.TransactionFilterRequest;
+import com.finnantech.infrastructure.web.dtos.TransactionPageResponse;
+import com.finnantech.infrastructure.web.dtos.TransactionResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service para listagem e escrita de transações
+ * A listagem é paginada por keyset (cursor opaco), sem OFFSET nem COUNT
+ * A criação em lote valida categorias e formas de pagamento por conjunto (sem consulta por linha)
+ * e grava com batching JDBC do Hibernate (hibernate.jdbc.batch_size)
+ */
+@Service
+@Transactional
+public class TransactionService {
+
+    private static final Set<String> SUPPORTED_CURRENCIES = Set.of("BRL", "USD", "EUR");
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryCatalogService categoryCatalog;
+    private final PaymentMethodRepository paymentMethodRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    public TransactionService(TransactionRepository transactionRepository, CategoryCatalogService categoryCatalog,
+                              PaymentMethodRepository paymentMethodRepository) {
+        this.transactionRepository = transactionRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.paymentMethodRepository = paymentMethodRepository;
+    }
+
+    /**
+     * Lista as transações do usuário da mais recente para a mais antiga a partir do cursor
+     * Busca um registro a mais que o limite para saber se existe próxima página
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageResponse listTransactions(String userId, TransactionFilterRequest filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new IllegalArgumentException("Valor mínimo não pode ser maior que o valor máximo");
+        }
+        TransactionCursor after = cursor != null && !cursor.isBlank() ? TransactionCursor.decode(cursor) : null;
+
+        Specification<Transaction> spec = TransactionSpecifications.ofUser(userId);
+        if (after != null) {
+            spec = spec.and(TransactionSpecifications.after(after.transactionDate(), after.createdAt(), after.id()));
+        }
+        TransactionType type = parseEnum(TransactionType.class, filter.getType(), "Tipo de transação inválido: ");
+        if (type != null) {
+            spec = spec.and(TransactionSpecifications.hasType(type));
+        }
+        String categoryId = blankToNull(filter.getCategoryId());
+        if (categoryId != null) {
+            spec = spec.and(TransactionSpecifications.hasCategory(categoryId));
+        }
+        String paymentMethodId = blankToNull(filter.getPaymentMethodId());
+        if (paymentMethodId != null) {
+            spec = spec.and(TransactionSpecifications.hasPaymentMethod(paymentMethodId));
+        }
+        TransactionStatus status = parseEnum(TransactionStatus.class, filter.getStatus(), "Status de transação inválido: ");
+        if (status != null) {
+            spec = spec.and(TransactionSpecifications.hasStatus(status));
+        }
+        if (filter.getMinAmount() != null) {
+            spec = spec.and(TransactionSpecifications.amountAtLeast(filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            spec = spec.and(TransactionSpecifications.amountAtMost(filter.getMaxAmount()));
+        }
+
+        List<Transaction> rows = transactionRepository.findBy(spec,
+            query -> query.limit(limit + 1).sortBy(TransactionSpecifications.KEYSET_ORDER).all());
+
+        boolean hasMore = rows.size() > limit;
+        List<Transaction> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? TransactionCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new TransactionPageResponse(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    /**
+     * Cria um lote de transações para o usuário em uma única transação
+     * Qualquer linha inválida rejeita o lote inteiro, indicando a posição de cada erro
+     * Retorna os ids na mesma ordem das requisições
+     */
+    public List<String> createBatch(String userId, List<TransactionCreateRequest> requests) {
+        validateBatch(userId, requests);
+
+        List<String> ids = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Transaction transaction = toEntity(userId, requests.get(i));
+            // persist direto: com id atribuído, save()/merge() faria um SELECT por linha
+            entityManager.persist(transaction);
+            ids.add(transaction.getId());
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private void validateBatch(String userId, List<TransactionCreateRequest> requests) {
+        Map<String, Category> categories = categoryCatalog.getCategoriesMapForUser(userId);
+
+        Set<String> paymentMethodIds = new HashSet<>();
+        for (TransactionCreateRequest request : requests) {
+            if (request.getPaymentMethodId() != null) {
+                paymentMethodIds.add(request.getPaymentMethodId());
+            }
+        }
+        Set<String> activePaymentMethods = paymentMethodIds.isEmpty()
+            ? Set.of()
+            : paymentMethodRepository.findActiveIdsByUserAndIdIn(userId, paymentMethodIds);
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TransactionCreateRequest request = requests.get(i);
+
+            Category category = categories.get(request.getCategoryId());
+            if (category == null) {
+                errors.add("[" + i + "] Categoria não encontrada: " + request.getCategoryId());
+            } else if (!acceptsType(category, request.getType())) {
+                errors.add("[" + i + "] Categoria " + category.getName() + " não aceita transações do tipo " + request.getType());
+            }
+
+            if (request.getPaymentMethodId() != null && !activePaymentMethods.contains(request.getPaymentMethodId())) {
+                errors.add("[" + i + "] Forma de pagamento não encontrada: " + request.getPaymentMethodId());
+            }
+
+            if (!SUPPORTED_CURRENCIES.contains(request.getCurrency())) {
+                errors.add("[" + i + "] Moeda deve ser BRL, USD ou EUR");
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Lote inválido: " + String.join("; ", errors));
+        }
+    }
+
+    /**
+     * Categorias de investimento aceitam receitas e despesas (aportes e resgates)
+     */
+    private boolean acceptsType(Category category, String type) {
+        return category.getType() == CategoryType.INVESTIMENTO || category.getType().name().equals(type);
+    }
+
+    private Transaction toEntity(String userId, TransactionCreateRequest request) {
+        Transaction transaction = new Transaction(
+            userId,
+            request.getCategoryId(),
+            TransactionType.valueOf(request.getType()),
+            request.getAmount(),
+            request.getDescription(),
+            request.getTransactionDate()
+        );
+        transaction.setPaymentMethodId(request.getPaymentMethodId());
+        transaction.setCurrency(request.getCurrency());
+        transaction.setNotes(request.getNotes());
+        transaction.setMerchantName(request.getMerchantName());
+        transaction.setMerchantCategory(request.getMerchantCategory());
+        transaction.setTags(request.getTags());
+        transaction.setIsRecurring(Boolean.TRUE.equals(request.getIsRecurring()));
+        return transaction;
+    }
+
+    private TransactionResponse toResponse(Transaction transaction) {
+        TransactionResponse response = new TransactionResponse();
+        response.setId(transaction.getId());
+        response.setUserId(transaction.getUserId());
+        response.setCategoryId(transaction.getCategoryId());
+        response.setPaymentMethodId(transaction.getPaymentMethodId());
+        response.setType(transaction.getType().name());
+        response.setAmount(transaction.getAmount());
+        response.setCurrency(transaction.getCurrency());
+        response.setDescription(transaction.getDescription());
+        response.setNotes(transaction.getNotes());
+        response.setTransactionDate(transaction.getTransactionDate());
+        response.setMerchantName(transaction.getMerchantName());
+        response.setMerchantCategory(transaction.getMerchantCategory());
+        response.setStatus(transaction.getStatus().name());
+        response.setTags(transaction.getTags());
+        response.setIsRecurring(transaction.getIsRecurring());
+        response.setMonthYear(transaction.getMonthYear());
+        response.setCreatedAt(transaction.getCreatedAt());
+        response.setUpdatedAt(transaction.getUpdatedAt());
+        return response;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String errorMessage) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(errorMessage + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,208 @@
+package com.finnantech.domain.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entidade Budget do domínio
+ * Orçamento mensal de uma categoria de despesa; spent_amount e remaining_amount são mantidos
+ * incrementalmente a cada escrita em transactions (ver BudgetSpendingWriter), sem SUM na leitura
+ * Com @DynamicUpdate as alterações do plano não regravam o gasto mantido pelos deltas
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "budgets",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_budgets_user_category_month", columnNames = {"user_id", "category_id", "month_year"})
+    },
+    indexes = {
+        @Index(name = "idx_budgets_user_month", columnList = "user_id, month_year DESC"),
+        @Index(name = "idx_budgets_category", columnList = "category_id"),
+        @Index(name = "idx_budgets_user_active", columnList = "user_id, active")
+    })
+public class Budget {
+
+    public static final BigDecimal DEFAULT_ALERT_THRESHOLD = new BigDecimal("80.00");
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+
+    @Column(name = "category_id", length = 36, nullable = false)
+    private String categoryId;
+
+    // Período do orçamento
+    @Column(name = "month_year", length = 7, nullable = false)
+    private String monthYear; // YYYY-MM
+
+    // Valores
+    @Column(name = "planned_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal plannedAmount;
+
+    @Column(name = "spent_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal spentAmount = BigDecimal.ZERO;
+
+    @Column(name = "remaining_amount", precision = 15, scale = 2)
+    private BigDecimal remainingAmount;
+
+    // Configurações
+    @Column(name = "alert_threshold", precision = 5, scale = 2)
+    private BigDecimal alertThreshold = DEFAULT_ALERT_THRESHOLD; // % do planejado
+
+    @Column(name = "alert_sent", nullable = false)
+    private Boolean alertSent = false;
+
+    // Metadados
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Construtores
+    public Budget() {
+        this.id = java.util.UUID.randomUUID().toString();
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Budget(String userId, String categoryId, String monthYear, BigDecimal plannedAmount) {
+        this();
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.monthYear = monthYear;
+        this.plannedAmount = plannedAmount;
+        this.remainingAmount = plannedAmount;
+    }
+
+    // Métodos de negócio
+
+    /**
+     * Define o valor gasto e recalcula o restante e a situação do alerta
+     */
+    public void updateSpent(BigDecimal spentAmount) {
+        this.spentAmount = spentAmount;
+        refresh();
+    }
+
+    public void updatePlan(BigDecimal plannedAmount, BigDecimal alertThreshold) {
+        this.plannedAmount = plannedAmount;
+        if (alertThreshold != null) {
+            this.alertThreshold = alertThreshold;
+        }
+        refresh();
+    }
+
+    public void deactivate() {
+        this.active = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Percentual do planejado já gasto
+     */
+    public BigDecimal getUsagePercentage() {
+        if (plannedAmount == null || plannedAmount.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return spentAmount.multiply(BigDecimal.valueOf(100)).divide(plannedAmount, 2, RoundingMode.HALF_UP);
+    }
+
+    public boolean isThresholdReached() {
+        return alertThreshold != null && getUsagePercentage().compareTo(alertThreshold) >= 0;
+    }
+
+    public boolean isExceeded() {
+        return spentAmount.compareTo(plannedAmount) > 0;
+    }
+
+    private void refresh() {
+        this.remainingAmount = plannedAmount.subtract(spentAmount);
+        this.alertSent = isThresholdReached();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public String getCategoryId() { return categoryId; }
+    public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+
+    public String getMonthYear() { return monthYear; }
+    public void setMonthYear(String monthYear) { this.monthYear = monthYear; }
+
+    public BigDecimal getPlannedAmount() { return plannedAmount; }
+    public void setPlannedAmount(BigDecimal plannedAmount) { this.plannedAmount = plannedAmount; }
+
+    public BigDecimal getSpentAmount() { return spentAmount; }
+    public void setSpentAmount(BigDecimal spentAmount) { this.spentAmount = spentAmount; }
+
+    public BigDecimal getRemainingAmount() { return remainingAmount; }
+    public void setRemainingAmount(BigDecimal remainingAmount) { this.remainingAmount = remainingAmount; }
+
+    public BigDecimal getAlertThreshold() { return alertThreshold; }
+    public void setAlertThreshold(BigDecimal alertThreshold) { this.alertThreshold = alertThreshold; }
+
+    public Boolean getAlertSent() { return alertSent; }
+    public void setAlertSent(Boolean alertSent) { this.alertSent = alertSent; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Budget budget = (Budget) o;
+        return Objects.equals(id, budget.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Budget{" +
+                "id='" + id + '\'' +
+                ", categoryId='" + categoryId + '\'' +
+                ", monthYear='" + monthYear + '\'' +
+                ", plannedAmount=" + plannedAmount +
+                ", spentAmount=" + spentAmount +
+                '}';
+    }
+}
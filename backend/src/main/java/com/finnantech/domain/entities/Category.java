@@ -1,6 +1,8 @@
 package com.finnantech.domain.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -12,8 +14,12 @@ import java.util.Objects;
  * Entidade Category do domínio
  * Representa categorias de transações (receitas, despesas, investimentos)
  * Suporta categorias padrão do sistema e personalizadas dos usuários
+ * Lida em quase toda requisição e raramente alterada: fica no cache de segundo nível do Hibernate
+ * (READ_WRITE, atualizado no commit de cada escrita feita pelo JPA)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Table(name = "categories", indexes = {
     @Index(name = "idx_categories_user_active", columnList = "user_id, active"),
     @Index(name = "idx_categories_type", columnList = "type"),
@@ -0,0 +1,222 @@
+package com.finnantech.domain.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entidade Investment do domínio
+ * Posição de um usuário; current_amount e rentabilidade são recalculados em conjunto por symbol
+ * a cada atualização de preços (ver InvestmentValuationWriter)
+ */
+@Entity
+@Table(name = "investments", indexes = {
+    @Index(name = "idx_investments_user", columnList = "user_id"),
+    @Index(name = "idx_investments_type", columnList = "type"),
+    @Index(name = "idx_investments_symbol", columnList = "symbol"),
+    @Index(name = "idx_investments_purchase_date", columnList = "purchase_date DESC"),
+    @Index(name = "idx_investments_user_active", columnList = "user_id, active"),
+    @Index(name = "idx_investments_broker", columnList = "broker")
+})
+public class Investment {
+    
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+    
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+    
+    // Dados do investimento
+    @Column(name = "name", length = 200, nullable = false)
+    private String name;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20, nullable = false)
+    private InvestmentType type;
+    
+    @Column(name = "symbol", length = 20)
+    private String symbol; // ticker em maiúsculas (ex: PETR4, BTCBRL)
+    
+    // Valores financeiros
+    @Column(name = "initial_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal initialAmount;
+    
+    @Column(name = "current_amount", precision = 15, scale = 2)
+    private BigDecimal currentAmount; // NULL até a primeira cotação
+    
+    @Column(name = "quantity", precision = 18, scale = 8)
+    private BigDecimal quantity;
+    
+    @Column(name = "average_price", precision = 15, scale = 2)
+    private BigDecimal averagePrice;
+    
+    // Datas importantes
+    @Column(name = "purchase_date", nullable = false)
+    private LocalDate purchaseDate;
+    
+    @Column(name = "maturity_date")
+    private LocalDate maturityDate;
+    
+    @Column(name = "last_update")
+    private LocalDateTime lastUpdate; // última atualização de preço
+    
+    // Rentabilidade
+    @Column(name = "profit_loss", precision = 15, scale = 2)
+    private BigDecimal profitLoss;
+    
+    @Column(name = "profit_loss_percent", precision = 8, scale = 4)
+    private BigDecimal profitLossPercent;
+    
+    // Metadados
+    @Column(name = "broker", length = 100)
+    private String broker;
+    
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+    
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Construtores
+    public Investment() {
+        this.id = java.util.UUID.randomUUID().toString();
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public Investment(String userId, String name, InvestmentType type, BigDecimal initialAmount, LocalDate purchaseDate) {
+        this();
+        this.userId = userId;
+        this.name = name;
+        this.type = type;
+        this.initialAmount = initialAmount;
+        this.purchaseDate = purchaseDate;
+    }
+    
+    // Métodos de negócio
+    
+    /**
+     * Reavalia a posição com um novo preço unitário (mesma regra do UPDATE em conjunto)
+     */
+    public void revalue(BigDecimal price, LocalDateTime at) {
+        if (quantity == null) {
+            return;
+        }
+        this.currentAmount = quantity.multiply(price).setScale(2, RoundingMode.HALF_UP);
+        this.profitLoss = currentAmount.subtract(initialAmount);
+        this.profitLossPercent = profitLoss.multiply(BigDecimal.valueOf(100)).divide(initialAmount, 4, RoundingMode.HALF_UP);
+        this.lastUpdate = at;
+        this.updatedAt = at;
+    }
+    
+    /**
+     * Valor atual da posição; sem cotação, o valor investido
+     */
+    public BigDecimal getMarketValue() {
+        return currentAmount != null ? currentAmount : initialAmount;
+    }
+    
+    public void deactivate() {
+        this.active = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public InvestmentType getType() { return type; }
+    public void setType(InvestmentType type) { this.type = type; }
+    
+    public String getSymbol() { return symbol; }
+    public void setSymbol(String symbol) { this.symbol = symbol != null ? symbol.trim().toUpperCase() : null; }
+    
+    public BigDecimal getInitialAmount() { return initialAmount; }
+    public void setInitialAmount(BigDecimal initialAmount) { this.initialAmount = initialAmount; }
+    
+    public BigDecimal getCurrentAmount() { return currentAmount; }
+    public void setCurrentAmount(BigDecimal currentAmount) { this.currentAmount = currentAmount; }
+    
+    public BigDecimal getQuantity() { return quantity; }
+    public void setQuantity(BigDecimal quantity) { this.quantity = quantity; }
+    
+    public BigDecimal getAveragePrice() { return averagePrice; }
+    public void setAveragePrice(BigDecimal averagePrice) { this.averagePrice = averagePrice; }
+    
+    public LocalDate getPurchaseDate() { return purchaseDate; }
+    public void setPurchaseDate(LocalDate purchaseDate) { this.purchaseDate = purchaseDate; }
+    
+    public LocalDate getMaturityDate() { return maturityDate; }
+    public void setMaturityDate(LocalDate maturityDate) { this.maturityDate = maturityDate; }
+    
+    public LocalDateTime getLastUpdate() { return lastUpdate; }
+    public void setLastUpdate(LocalDateTime lastUpdate) { this.lastUpdate = lastUpdate; }
+    
+    public BigDecimal getProfitLoss() { return profitLoss; }
+    public void setProfitLoss(BigDecimal profitLoss) { this.profitLoss = profitLoss; }
+    
+    public BigDecimal getProfitLossPercent() { return profitLossPercent; }
+    public void setProfitLossPercent(BigDecimal profitLossPercent) { this.profitLossPercent = profitLossPercent; }
+    
+    public String getBroker() { return broker; }
+    public void setBroker(String broker) { this.broker = broker; }
+    
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Investment that = (Investment) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "Investment{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", symbol='" + symbol + '\'' +
+                ", initialAmount=" + initialAmount +
+                ", currentAmount=" + currentAmount +
+                '}';
+    }
+}
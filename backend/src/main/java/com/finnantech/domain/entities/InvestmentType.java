@@ -0,0 +1,16 @@
+package com.finnantech.domain.entities;
+
+/**
+ * Enum para tipos de investimento
+ */
+public enum InvestmentType {
+    ACAO,
+    FUNDO,
+    TESOURO,
+    CDB,
+    LCI,
+    LCA,
+    CRYPTO,
+    IMOVEL,
+    OUTRO
+}
@@ -0,0 +1,75 @@
+package com.finnantech.domain.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Agregado mensal materializado das transações confirmadas
+ * Mantido incrementalmente a cada escrita em transactions, permitindo que o
+ * dashboard leia O(meses) linhas em vez de O(transações)
+ */
+@Entity
+@IdClass(MonthlyRollupId.class)
+@Table(name = "monthly_rollups", indexes = {
+    @Index(name = "idx_monthly_rollups_user_month", columnList = "user_id, month_year DESC")
+})
+public class MonthlyRollup {
+    
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+    
+    @Id
+    @Column(name = "month_year", length = 7)
+    private String monthYear; // YYYY-MM
+    
+    @Id
+    @Column(name = "type", length = 20)
+    private String type; // RECEITA ou DESPESA
+    
+    @Id
+    @Column(name = "category_id", length = 36)
+    private String categoryId;
+    
+    @Column(name = "total_amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount = 0L;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Construtores
+    public MonthlyRollup() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters
+    public String getUserId() { return userId; }
+    public String getMonthYear() { return monthYear; }
+    public String getType() { return type; }
+    public String getCategoryId() { return categoryId; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public Long getTransactionCount() { return transactionCount; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    
+    @Override
+    public String toString() {
+        return "MonthlyRollup{" +
+                "userId='" + userId + '\'' +
+                ", monthYear='" + monthYear + '\'' +
+                ", type='" + type + '\'' +
+                ", categoryId='" + categoryId + '\'' +
+                ", totalAmount=" + totalAmount +
+                ", transactionCount=" + transactionCount +
+                '}';
+    }
+}
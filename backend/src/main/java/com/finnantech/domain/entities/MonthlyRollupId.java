@@ -0,0 +1,45 @@
+package com.finnantech.domain.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Chave composta do agregado mensal (usuário, mês, tipo e categoria)
+ */
+public class MonthlyRollupId implements Serializable {
+    
+    private String userId;
+    private String monthYear;
+    private String type;
+    private String categoryId;
+    
+    public MonthlyRollupId() {}
+    
+    public MonthlyRollupId(String userId, String monthYear, String type, String categoryId) {
+        this.userId = userId;
+        this.monthYear = monthYear;
+        this.type = type;
+        this.categoryId = categoryId;
+    }
+    
+    public String getUserId() { return userId; }
+    public String getMonthYear() { return monthYear; }
+    public String getType() { return type; }
+    public String getCategoryId() { return categoryId; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MonthlyRollupId that = (MonthlyRollupId) o;
+        return Objects.equals(userId, that.userId) &&
+               Objects.equals(monthYear, that.monthYear) &&
+               Objects.equals(type, that.type) &&
+               Objects.equals(categoryId, that.categoryId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, monthYear, type, categoryId);
+    }
+}
@@ -1,6 +1,8 @@
 package com.finnantech.domain.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,8 +12,12 @@ import java.util.Objects;
  * Entidade PaymentMethod do domínio
  * Representa diferentes métodos de pagamento dos usuários
  * Suporta cartões de crédito/débito, PIX, dinheiro, transferências, etc.
+ * Lida em quase toda requisição e raramente alterada: fica no cache de segundo nível do Hibernate
+ * (READ_WRITE, atualizado no commit de cada escrita feita pelo JPA)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payment-methods")
 @Table(name = "payment_methods", indexes = {
     @Index(name = "idx_payment_methods_user", columnList = "user_id"),
     @Index(name = "idx_payment_methods_type", columnList = "type"),
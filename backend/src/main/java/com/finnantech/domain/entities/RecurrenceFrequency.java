@@ -0,0 +1,40 @@
+package com.finnantech.domain.entities;
+
+import java.time.LocalDate;
+
+/**
+ * Enum para frequências de transações recorrentes
+ * Frequências mensais ou maiores mantêm o dia de referência (ex.: dia 31 vira 28/29 em fevereiro
+ * e volta a 31 em março)
+ */
+public enum RecurrenceFrequency {
+    DIARIA(0),
+    SEMANAL(0),
+    QUINZENAL(0),
+    MENSAL(1),
+    BIMESTRAL(2),
+    TRIMESTRAL(3),
+    SEMESTRAL(6),
+    ANUAL(12);
+
+    private final int months;
+
+    RecurrenceFrequency(int months) {
+        this.months = months;
+    }
+
+    /**
+     * Próxima ocorrência depois de date, usando anchorDay como dia do mês para frequências mensais
+     */
+    public LocalDate next(LocalDate date, int anchorDay) {
+        return switch (this) {
+            case DIARIA -> date.plusDays(1);
+            case SEMANAL -> date.plusWeeks(1);
+            case QUINZENAL -> date.plusWeeks(2);
+            default -> {
+                LocalDate next = date.plusMonths(months);
+                yield next.withDayOfMonth(Math.min(anchorDay, next.lengthOfMonth()));
+            }
+        };
+    }
+}
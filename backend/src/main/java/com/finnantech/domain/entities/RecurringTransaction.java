@@ -0,0 +1,178 @@
+package com.finnantech.domain.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entidade RecurringTransaction do domínio
+ * Modelo de transação que se repete; o motor de recorrência materializa uma Transaction
+ * por ocorrência e avança next_execution e execution_count
+ */
+@Entity
+@Table(name = "recurring_transactions", indexes = {
+    @Index(name = "idx_recurring_user", columnList = "user_id"),
+    @Index(name = "idx_recurring_next_execution", columnList = "next_execution ASC"),
+    @Index(name = "idx_recurring_user_active", columnList = "user_id, active")
+})
+public class RecurringTransaction {
+    
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+    
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+    
+    @Column(name = "category_id", length = 36, nullable = false)
+    private String categoryId;
+    
+    @Column(name = "payment_method_id", length = 36)
+    private String paymentMethodId;
+    
+    // Template da transação
+    @Column(name = "description", length = 255, nullable = false)
+    private String description;
+    
+    @Column(name = "amount", precision = 15, scale = 2, nullable = false)
+    private BigDecimal amount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20, nullable = false)
+    private TransactionType type;
+    
+    // Configurações de recorrência
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", length = 20, nullable = false)
+    private RecurrenceFrequency frequency;
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+    
+    @Column(name = "end_date")
+    private LocalDate endDate; // NULL = sem fim
+    
+    // Controle de execução
+    @Column(name = "next_execution", nullable = false)
+    private LocalDate nextExecution;
+    
+    @Column(name = "last_execution")
+    private LocalDate lastExecution;
+    
+    @Column(name = "execution_count", nullable = false)
+    private Integer executionCount = 0;
+    
+    @Column(name = "max_executions")
+    private Integer maxExecutions; // NULL = ilimitado
+    
+    // Metadados
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+    
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Construtores
+    public RecurringTransaction() {
+        this.id = java.util.UUID.randomUUID().toString();
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Métodos de negócio
+    
+    /**
+     * Indica se a ocorrência em date ainda está dentro dos limites (data final e máximo de execuções)
+     */
+    public boolean allowsOccurrence(LocalDate date, int executions) {
+        return (endDate == null || !date.isAfter(endDate))
+            && (maxExecutions == null || executions < maxExecutions);
+    }
+    
+    public LocalDate nextOccurrence(LocalDate date) {
+        return frequency.next(date, startDate.getDayOfMonth());
+    }
+    
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public String getCategoryId() { return categoryId; }
+    public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+    
+    public String getPaymentMethodId() { return paymentMethodId; }
+    public void setPaymentMethodId(String paymentMethodId) { this.paymentMethodId = paymentMethodId; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    
+    public TransactionType getType() { return type; }
+    public void setType(TransactionType type) { this.type = type; }
+    
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+    
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    
+    public LocalDate getNextExecution() { return nextExecution; }
+    public void setNextExecution(LocalDate nextExecution) { this.nextExecution = nextExecution; }
+    
+    public LocalDate getLastExecution() { return lastExecution; }
+    public void setLastExecution(LocalDate lastExecution) { this.lastExecution = lastExecution; }
+    
+    public Integer getExecutionCount() { return executionCount; }
+    public void setExecutionCount(Integer executionCount) { this.executionCount = executionCount; }
+    
+    public Integer getMaxExecutions() { return maxExecutions; }
+    public void setMaxExecutions(Integer maxExecutions) { this.maxExecutions = maxExecutions; }
+    
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecurringTransaction that = (RecurringTransaction) o;
+        return Objects.equals(id, that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -30,7 +30,7 @@ import jakarta.validation.constraints.Size;
  */
 @Entity
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date DESC"),
+    @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date DESC, created_at DESC, id DESC"),
     @Index(name = "idx_transactions_user_month", columnList = "user_id, month_year DESC"),
     @Index(name = "idx_transactions_category", columnList = "category_id"),
     @Index(name = "idx_transactions_payment_method", columnList = "payment_method_id"),
@@ -42,6 +42,8 @@ import jakarta.validation.constraints.Size;
 })
 public class Transaction {
     
+    private static final DateTimeFormatter MONTH_YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    
     @Id
     @Column(name = "id", length = 36)
     private String id;
@@ -210,11 +212,25 @@ public class Transaction {
     // Geração automática do campo month_year
     private void generateMonthYear() {
         if (transactionDate != null) {
-            this.monthYear = transactionDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+            this.monthYear = transactionDate.format(MONTH_YEAR_FORMATTER);
         }
     }
     
     // Helper para tags
+    public List<String> getTags() {
+        return tagsFromJson(tagsJson);
+    }
+    
+    /**
+     * Converte o JSON simples gravado por setTags de volta para lista
+     */
+    public static List<String> tagsFromJson(String tagsJson) {
+        if (tagsJson == null || tagsJson.length() < 4) {
+            return List.of();
+        }
+        return List.of(tagsJson.substring(2, tagsJson.length() - 2).split("\", \""));
+    }
+    
     public void setTags(List<String> tags) {
         if (tags != null && !tags.isEmpty()) {
             // Converte lista para JSON string simples
@@ -328,20 +344,3 @@ public class Transaction {
                 '}';
     }
 }
-
-/**
- * Enum para tipos de transação
- */
-enum TransactionType {
-    RECEITA,
-    DESPESA
-}
-
-/**
- * Enum para status de transação
- */
-enum TransactionStatus {
-    PENDENTE,
-    CONFIRMADA,
-    CANCELADA
-} 
\ No newline at end of file
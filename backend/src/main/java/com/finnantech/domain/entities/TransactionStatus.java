@@ -0,0 +1,10 @@
+package com.finnantech.domain.entities;
+
+/**
+ * Enum para status de transação
+ */
+public enum TransactionStatus {
+    PENDENTE,
+    CONFIRMADA,
+    CANCELADA
+}
@@ -0,0 +1,9 @@
+package com.finnantech.domain.entities;
+
+/**
+ * Enum para tipos de transação
+ */
+public enum TransactionType {
+    RECEITA,
+    DESPESA
+}
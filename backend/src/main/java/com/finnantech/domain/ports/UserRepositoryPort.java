@@ -36,6 +36,11 @@ public interface UserRepositoryPort {
      */
     boolean existsByEmail(Email email);
     
+    /**
+     * Verifica se existe usuário com o ID informado
+     */
+    boolean existsById(UserId userId);
+    
     /**
      * Deleta um usuário
      */
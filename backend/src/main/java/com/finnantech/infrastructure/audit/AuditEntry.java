@@ -0,0 +1,24 @@
+package com.finnantech.infrastructure.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mudança de entidade capturada para audit_logs
+ * Os estados são cópias dos arrays do Hibernate; a conversão para JSON fica com o AuditLogWriter,
+ * fora da thread da requisição
+ */
+public record AuditEntry(
+    String userId,
+    String tableName,
+    String operation,
+    String recordId,
+    String[] propertyNames,
+    Object[] oldState,
+    Object[] newState,
+    int[] changedProperties,
+    String ipAddress,
+    String userAgent,
+    String sessionId,
+    LocalDateTime timestamp
+) {
+}
@@ -0,0 +1,163 @@
+package com.finnantech.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.PaymentMethod;
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.infrastructure.persistence.entities.UserEntity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Listener Hibernate que captura as mudanças de Transaction, Category, PaymentMethod e UserEntity
+ * Usa os eventos pós-commit: só mudanças efetivadas são auditadas e nada é escrito na transação
+ * original; a captura apenas copia o estado e entrega ao AuditLogWriter
+ */
+@Component
+@ConditionalOnProperty(name = "audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    
+    private static final Map<Class<?>, String> AUDITED_TABLES = Map.of(
+        Transaction.class, "transactions",
+        Category.class, "categories",
+        PaymentMethod.class, "payment_methods",
+        UserEntity.class, "users"
+    );
+    
+    private static final int MAX_IP_LENGTH = 45;
+    private static final int MAX_SESSION_ID_LENGTH = 100;
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogWriter auditWriter;
+    
+    public AuditEventListener(EntityManagerFactory entityManagerFactory, AuditLogWriter auditWriter) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.auditWriter = auditWriter;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getEntity(), event.getId(), "INSERT", event.getPersister(), null, event.getState(), null);
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getEntity(), event.getId(), "UPDATE", event.getPersister(),
+            event.getOldState(), event.getState(), event.getDirtyProperties());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getEntity(), event.getId(), "DELETE", event.getPersister(), event.getDeletedState(), null, null);
+    }
+    
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+    
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+    
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED_TABLES.containsKey(persister.getMappedClass());
+    }
+    
+    private void capture(Object entity, Object id, String operation, EntityPersister persister,
+                         Object[] oldState, Object[] newState, int[] changedProperties) {
+        String tableName = AUDITED_TABLES.get(entity.getClass());
+        if (tableName == null || id == null) {
+            return;
+        }
+        
+        String ipAddress = null;
+        String userAgent = null;
+        String sessionId = null;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            ipAddress = truncate(clientAddress(request), MAX_IP_LENGTH);
+            userAgent = request.getHeader("User-Agent");
+            sessionId = truncate(request.getRequestedSessionId(), MAX_SESSION_ID_LENGTH);
+        }
+        
+        auditWriter.offer(new AuditEntry(
+            ownerOf(entity, operation),
+            tableName,
+            operation,
+            id.toString(),
+            persister.getPropertyNames(),
+            oldState != null ? oldState.clone() : null,
+            newState != null ? newState.clone() : null,
+            changedProperties,
+            ipAddress,
+            userAgent,
+            sessionId,
+            LocalDateTime.now()
+        ));
+    }
+    
+    /**
+     * Usuário dono do registro; na exclusão de um usuário fica NULL (audit_logs.user_id referencia users)
+     */
+    private String ownerOf(Object entity, String operation) {
+        if (entity instanceof Transaction transaction) {
+            return transaction.getUserId();
+        } else if (entity instanceof Category category) {
+            return category.getUserId();
+        } else if (entity instanceof PaymentMethod paymentMethod) {
+            return paymentMethod.getUserId();
+        } else if (entity instanceof UserEntity user) {
+            return "DELETE".equals(operation) ? null : user.getId();
+        }
+        return null;
+    }
+    
+    private String clientAddress(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            int comma = forwarded.indexOf(',');
+            return (comma > 0 ? forwarded.substring(0, comma) : forwarded).trim();
+        }
+        return request.getRemoteAddr();
+    }
+    
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,259 @@
+package com.finnantech.infrastructure.audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Escritor assíncrono de audit_logs
+ * As entradas entram numa fila limitada sem locks (ConcurrentLinkedQueue + contador com CAS) e uma
+ * thread de fundo as grava com INSERT em batch JDBC, a cada audit.batch-size entradas ou
+ * audit.flush-interval; no desligamento a fila é esvaziada antes do pool de conexões fechar
+ * Com a fila cheia, audit.overflow define a contrapressão: DROP descarta na hora e BLOCK espera
+ * até audit.block-timeout por espaço antes de descartar
+ */
+@Component
+@ConditionalOnProperty(name = "audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_logs (id, user_id, table_name, operation, record_id, old_values, new_values, " +
+        "ip_address, user_agent, session_id, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String REDACTED = "***";
+    private static final long BLOCK_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentLinkedQueue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Value("${audit.queue-capacity:10000}")
+    private int capacity;
+
+    @Value("${audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${audit.flush-interval:PT1S}")
+    private Duration flushInterval;
+
+    @Value("${audit.overflow:DROP}")
+    private OverflowPolicy overflow;
+
+    @Value("${audit.block-timeout:PT0.05S}")
+    private Duration blockTimeout;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        Gauge.builder("audit.queue.size", size, AtomicInteger::get).register(meterRegistry);
+        FunctionCounter.builder("audit.entries.written", written, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("audit.entries.dropped", dropped, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("audit.entries.failed", failed, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Para a thread de fundo e grava o que ainda estiver na fila
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        log.info("Auditoria encerrada: {} registros gravados, {} descartados, {} com falha",
+            written.get(), dropped.get(), failed.get());
+    }
+
+    /**
+     * Enfileira a entrada sem bloquear (DROP) ou esperando por espaço até o limite (BLOCK)
+     * Retorna false se a entrada foi descartada
+     */
+    public boolean offer(AuditEntry entry) {
+        if (!reserve() && !(overflow == OverflowPolicy.BLOCK && awaitSpace())) {
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                log.warn("Fila de auditoria cheia ({} entradas): {} registros descartados até agora", capacity, dropped.get());
+            }
+            return false;
+        }
+        queue.add(entry);
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+        return true;
+    }
+
+    public int getPending() { return size.get(); }
+    public long getWritten() { return written.get(); }
+    public long getDropped() { return dropped.get(); }
+
+    private boolean reserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean awaitSpace() {
+        long deadline = System.nanoTime() + blockTimeout.toNanos();
+        LockSupport.unpark(worker);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_SPIN_NANOS);
+            if (reserve()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void run() {
+        while (running) {
+            if (size.get() < batchSize) {
+                LockSupport.parkNanos(flushInterval.toNanos());
+            }
+            flushAll();
+        }
+    }
+
+    private void flushAll() {
+        List<AuditEntry> batch;
+        while (!(batch = drain()).isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private List<AuditEntry> drain() {
+        List<AuditEntry> batch = new ArrayList<>(Math.min(batchSize, Math.max(size.get(), 1)));
+        AuditEntry entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * Grava o lote; se o batch falhar, grava linha a linha para perder só as entradas inválidas
+     */
+    private void write(List<AuditEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written.addAndGet(batch.size());
+        } catch (DataAccessException batchError) {
+            for (AuditEntry entry : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, entry));
+                    written.incrementAndGet();
+                } catch (DataAccessException e) {
+                    failed.incrementAndGet();
+                    log.error("Falha ao gravar auditoria de {} {}: {}", entry.tableName(), entry.recordId(), e.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("Falha ao gravar lote de auditoria ({} registros): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void bind(PreparedStatement statement, AuditEntry entry) throws SQLException {
+        statement.setString(1, UUID.randomUUID().toString());
+        statement.setString(2, entry.userId());
+        statement.setString(3, entry.tableName());
+        statement.setString(4, entry.operation());
+        statement.setString(5, entry.recordId());
+        statement.setString(6, toJson(entry, entry.oldState()));
+        statement.setString(7, toJson(entry, entry.newState()));
+        statement.setString(8, entry.ipAddress());
+        statement.setString(9, entry.userAgent());
+        statement.setString(10, entry.sessionId());
+        statement.setTimestamp(11, Timestamp.valueOf(entry.timestamp()));
+    }
+
+    /**
+     * Estado como objeto JSON; em UPDATE apenas as propriedades alteradas, e senhas nunca são gravadas
+     */
+    private String toJson(AuditEntry entry, Object[] state) {
+        if (state == null) {
+            return null;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (entry.changedProperties() != null) {
+            for (int index : entry.changedProperties()) {
+                put(values, entry.propertyNames()[index], state[index]);
+            }
+        } else {
+            for (int i = 0; i < state.length; i++) {
+                put(values, entry.propertyNames()[i], state[i]);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            return values.toString();
+        }
+    }
+
+    private void put(Map<String, Object> values, String property, Object value) {
+        values.put(property, property.toLowerCase(Locale.ROOT).contains("password") && value != null ? REDACTED : value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.finnantech.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * Chave de cache escopada por usuário e pela versão dos dados lida antes do cálculo
+ * Um resultado calculado com dados antigos fica sob a versão antiga e nunca é servido
+ * com a ETag da versão nova
+ */
+public record UserCacheKey(String userId, long version, List<Object> params) {
+}
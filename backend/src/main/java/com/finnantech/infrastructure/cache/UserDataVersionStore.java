@@ -0,0 +1,85 @@
+package com.finnantech.infrastructure.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.finnantech.application.events.UserDataChangedEvent;
+
+/**
+ * Versão dos dados de cada usuário, base das ETags do dashboard e das chaves dos caches por usuário
+ * Incrementada a cada UserDataChangedEvent (após o commit) e mantida em memória; user_data_versions
+ * guarda o valor para a primeira leitura após reinício, então uma consulta custa um get no mapa
+ * O incremento é a invalidação dos caches: as entradas da versão anterior deixam de ser lidas e
+ * saem pelo TTL/tamanho do Caffeine, sem varrer os caches
+ */
+@Component
+public class UserDataVersionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDataVersionStore.class);
+
+    private static final String SELECT_SQL = "SELECT data_version FROM user_data_versions WHERE user_id = ?";
+    private static final String INCREMENT_SQL =
+        "UPDATE user_data_versions SET data_version = data_version + 1, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO user_data_versions (user_id, data_version, updated_at) VALUES (?, 1, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    public UserDataVersionStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // O evento chega no afterCompletion da transação que alterou os dados: precisa de transação própria
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Versão atual dos dados do usuário
+     */
+    public long currentVersion(String userId) {
+        Long version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+        return versions.merge(userId, load(userId), Math::max);
+    }
+
+    @EventListener
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        String userId = event.userId();
+        try {
+            Long version = transactionTemplate.execute(status -> increment(userId));
+            versions.merge(userId, version, Math::max);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar versão dos dados do usuário {}: {}", userId, e.getMessage());
+            versions.merge(userId, 1L, Long::sum);
+        }
+    }
+
+    private long increment(String userId) {
+        if (jdbcTemplate.update(INCREMENT_SQL, userId) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, userId);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(INCREMENT_SQL, userId);
+            }
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, userId);
+    }
+
+    private long load(String userId) {
+        return jdbcTemplate.query(SELECT_SQL, rs -> rs.next() ? rs.getLong(1) : 0L, userId);
+    }
+}
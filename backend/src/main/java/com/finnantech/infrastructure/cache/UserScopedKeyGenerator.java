@@ -0,0 +1,40 @@
+package com.finnantech.infrastructure.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gera UserCacheKey a partir dos parâmetros do método e da versão atual dos dados do usuário
+ * Convenção: o primeiro parâmetro dos métodos cacheados é sempre o userId
+ */
+@Component(UserScopedKeyGenerator.BEAN_NAME)
+public class UserScopedKeyGenerator implements KeyGenerator {
+    
+    public static final String BEAN_NAME = "userScopedKeyGenerator";
+    
+    private final UserDataVersionStore versionStore;
+    
+    public UserScopedKeyGenerator(UserDataVersionStore versionStore) {
+        this.versionStore = versionStore;
+    }
+    
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length == 0 || !(params[0] instanceof String userId)) {
+            throw new IllegalArgumentException("Método cacheado deve receber o userId como primeiro parâmetro: " + method.getName());
+        }
+        List<Object> rest = List.of(Arrays.copyOfRange(params, 1, params.length));
+        return keyFor(userId, rest);
+    }
+    
+    /**
+     * Chave para caches acessados diretamente (Cache.get), com a versão lida agora
+     */
+    public UserCacheKey keyFor(String userId, List<Object> params) {
+        return new UserCacheKey(userId, versionStore.currentVersion(userId), params);
+    }
+}
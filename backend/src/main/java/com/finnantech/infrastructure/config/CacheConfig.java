@@ -0,0 +1,25 @@
+package com.finnantech.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração de cache (Caffeine)
+ * Os caches por usuário usam UserCacheKey, que leva a versão dos dados do usuário: uma escrita
+ * só incrementa a versão (UserDataVersionStore) e as entradas antigas expiram sozinhas
+ * Tamanho, TTL e estatísticas são definidos em spring.cache.caffeine.spec;
+ * as métricas de hit/miss/eviction são expostas pelo actuator (cache.gets, cache.evictions)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String DASHBOARD_SUMMARY = "dashboard-summary";
+    public static final String DASHBOARD_MONTHLY_SUMMARY = "dashboard-monthly-summary";
+    public static final String DASHBOARD_CATEGORY_STATS = "dashboard-category-stats";
+    public static final String DASHBOARD_MONTHLY_EXPENSES = "dashboard-monthly-expenses";
+    public static final String DASHBOARD_RECENT_TRANSACTIONS = "dashboard-recent-transactions";
+    public static final String DASHBOARD_PERIOD_COMPARISON = "dashboard-period-comparison";
+    public static final String CATEGORY_USER_OVERLAY = "category-user-overlay";
+    public static final String INVESTMENT_PORTFOLIO = "investment-portfolio";
+}
@@ -0,0 +1,71 @@
+package com.finnantech.infrastructure.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cache de segundo nível do Hibernate (JCache sobre Caffeine)
+ * As regiões são criadas aqui, com tamanho e TTL de second-level-cache.*; as estatísticas por região
+ * são expostas pelo actuator (hibernate.second.level.cache.requests, hibernate.cache.query.requests)
+ * O registro de timestamps das tabelas não expira: é ele que invalida as consultas cacheadas
+ */
+@Configuration
+public class HibernateCacheConfig implements HibernatePropertiesCustomizer {
+
+    public static final String CATEGORIES_REGION = "categories";
+    public static final String PAYMENT_METHODS_REGION = "payment-methods";
+
+    private final CacheManager cacheManager;
+
+    public HibernateCacheConfig(@Value("${second-level-cache.entities.maximum-size:20000}") long entitiesMaximumSize,
+                                @Value("${second-level-cache.entities.expire-after-write:PT1H}") Duration entitiesTtl,
+                                @Value("${second-level-cache.queries.maximum-size:10000}") long queriesMaximumSize,
+                                @Value("${second-level-cache.queries.expire-after-write:PT10M}") Duration queriesTtl) {
+        this.cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(null, getClass().getClassLoader());
+        createRegion(CATEGORIES_REGION, OptionalLong.of(entitiesMaximumSize), entitiesTtl);
+        createRegion(PAYMENT_METHODS_REGION, OptionalLong.of(entitiesMaximumSize), entitiesTtl);
+        createRegion(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, OptionalLong.of(queriesMaximumSize), queriesTtl);
+        createRegion(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, OptionalLong.empty(), null);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        // Região não declarada aqui é erro de configuração, não um cache sem limite criado em silêncio
+        hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    private void createRegion(String name, OptionalLong maximumSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate já guarda o estado desmontado, sem instâncias compartilhadas
+        configuration.setMaximumSize(maximumSize);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,12 @@
+package com.finnantech.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled), como o motor de transações recorrentes
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,45 @@
+package com.finnantech.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.finnantech.infrastructure.security.CurrentUserArgumentResolver;
+import com.finnantech.infrastructure.web.SqlStatementMetricsAdvice;
+import com.finnantech.infrastructure.web.UserDataETagAdvice;
+
+/**
+ * Configuração do Spring MVC
+ * Registra o resolver de @CurrentUser usado pelos controllers, as métricas de SQL por requisição
+ * e o GET condicional de @UserDataETag
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final SqlStatementMetricsAdvice sqlStatementMetricsAdvice;
+    private final UserDataETagAdvice userDataETagAdvice;
+
+    public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver,
+                     SqlStatementMetricsAdvice sqlStatementMetricsAdvice,
+                     UserDataETagAdvice userDataETagAdvice) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.sqlStatementMetricsAdvice = sqlStatementMetricsAdvice;
+        this.userDataETagAdvice = userDataETagAdvice;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Métricas primeiro: respostas 304 do ETag também são contadas
+        registry.addInterceptor(sqlStatementMetricsAdvice);
+        registry.addInterceptor(userDataETagAdvice);
+    }
+}
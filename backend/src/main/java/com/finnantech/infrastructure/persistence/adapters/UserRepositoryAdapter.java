@@ -56,6 +56,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return jpaRepository.existsByEmail(email.getValue());
     }
     
+    @Override
+    public boolean existsById(UserId userId) {
+        return jpaRepository.existsById(userId.getValue());
+    }
+    
     @Override
     public void delete(User user) {
         UserEntity entity = userMapper.toEntity(user);
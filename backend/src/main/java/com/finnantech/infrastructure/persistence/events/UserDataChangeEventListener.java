@@ -0,0 +1,82 @@
+package com.finnantech.infrastructure.persistence.events;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.finnantech.domain.entities.Budget;
+import com.finnantech.domain.entities.Category;
+import com.finnantech.domain.entities.Investment;
+import com.finnantech.domain.entities.PaymentMethod;
+import com.finnantech.domain.entities.Transaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Listener Hibernate que sinaliza mudanças nos dados de um usuário
+ * (usado para incrementar a versão dos dados após o commit, o que invalida os caches por usuário)
+ */
+@Component
+public class UserDataChangeEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserDataChangePublisher changePublisher;
+    
+    public UserDataChangeEventListener(EntityManagerFactory entityManagerFactory, UserDataChangePublisher changePublisher) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.changePublisher = changePublisher;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        entityChanged(event.getEntity());
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        entityChanged(event.getEntity());
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        entityChanged(event.getEntity());
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    private void entityChanged(Object entity) {
+        if (entity instanceof Transaction transaction) {
+            changePublisher.userDataChanged(transaction.getUserId());
+        } else if (entity instanceof Category category) {
+            changePublisher.userDataChanged(category.getUserId());
+        } else if (entity instanceof PaymentMethod paymentMethod) {
+            changePublisher.userDataChanged(paymentMethod.getUserId());
+        } else if (entity instanceof Budget budget) {
+            changePublisher.userDataChanged(budget.getUserId());
+        } else if (entity instanceof Investment investment) {
+            changePublisher.userDataChanged(investment.getUserId());
+        }
+    }
+}
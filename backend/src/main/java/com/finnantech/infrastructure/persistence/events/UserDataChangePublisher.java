@@ -0,0 +1,56 @@
+package com.finnantech.infrastructure.persistence.events;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.finnantech.application.events.UserDataChangedEvent;
+
+/**
+ * Publica UserDataChangedEvent uma única vez por usuário, após o commit da transação corrente
+ * Escritas em lote de um mesmo usuário geram um único evento
+ */
+@Component
+public class UserDataChangePublisher {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public UserDataChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+    
+    /**
+     * Registra que os dados do usuário mudaram na transação corrente
+     */
+    public void userDataChanged(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+            return;
+        }
+        
+        @SuppressWarnings("unchecked")
+        Set<String> pendingUserIds = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pendingUserIds == null) {
+            Set<String> userIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, userIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UserDataChangePublisher.this);
+                    if (status == STATUS_COMMITTED) {
+                        userIds.forEach(id -> eventPublisher.publishEvent(new UserDataChangedEvent(id)));
+                    }
+                }
+            });
+            pendingUserIds = userIds;
+        }
+        pendingUserIds.add(userId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.finnantech.infrastructure.persistence.investments;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.finnantech.infrastructure.prices.PriceQuote;
+
+/**
+ * Escrita JDBC da reavaliação das posições (investments)
+ * Cada cotação vira um único UPDATE por symbol (idx_investments_symbol) que reavalia todas as
+ * posições ativas do ativo, de todos os usuários; as cotações de um lote vão num batch JDBC
+ */
+@Component
+public class InvestmentValuationWriter {
+
+    // mesma regra de Investment.revalue
+    private static final String REVALUE_SQL =
+        "UPDATE investments SET current_amount = ROUND(quantity * ?, 2), " +
+        "profit_loss = ROUND(quantity * ?, 2) - initial_amount, " +
+        "profit_loss_percent = ROUND((ROUND(quantity * ?, 2) - initial_amount) * 100 / initial_amount, 4), " +
+        "last_update = ?, updated_at = ? " +
+        "WHERE symbol = ? AND active = TRUE AND quantity IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InvestmentValuationWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Aplica as cotações e retorna a quantidade de posições reavaliadas
+     */
+    public int apply(List<PriceQuote> quotes, LocalDateTime at) {
+        if (quotes.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(at);
+        int[] updated = jdbcTemplate.batchUpdate(REVALUE_SQL, quotes, quotes.size(), (statement, quote) -> {
+            statement.setBigDecimal(1, quote.price());
+            statement.setBigDecimal(2, quote.price());
+            statement.setBigDecimal(3, quote.price());
+            statement.setTimestamp(4, timestamp);
+            statement.setTimestamp(5, timestamp);
+            statement.setString(6, quote.symbol());
+        })[0];
+        return Arrays.stream(updated).filter(rows -> rows > 0).sum();
+    }
+}
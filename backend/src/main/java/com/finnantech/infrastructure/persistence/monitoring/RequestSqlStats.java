@@ -0,0 +1,95 @@
+package com.finnantech.infrastructure.persistence.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Estatísticas de SQL da requisição HTTP corrente: quantidade de statements, tempo de JDBC
+ * e quantas vezes cada formato de statement se repetiu (para detectar N+1)
+ * Fica num ThreadLocal aberto pelo SqlStatementMetricsAdvice; trabalho feito em outras threads
+ * em nome da requisição entra pelo wrap()
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    // Listas IN de tamanho variável viram um único formato
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final Map<String, AtomicInteger> shapes = new ConcurrentHashMap<>();
+
+    private RequestSqlStats() {
+    }
+
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Propaga as estatísticas da requisição para uma tarefa executada em outra thread
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    void statementExecuted(String sql) {
+        statements.incrementAndGet();
+        String shape = IN_LIST.matcher(WHITESPACE.matcher(sql).replaceAll(" ").trim()).replaceAll("(?)");
+        shapes.computeIfAbsent(shape, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    void jdbcTime(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    /**
+     * Formatos de statement executados mais de threshold vezes, com a contagem
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count.get() > threshold) {
+                repeated.put(shape, count.get());
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,37 @@
+package com.finnantech.infrastructure.persistence.monitoring;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Conta e cronometra cada execução JDBC na requisição corrente, venha do Hibernate, do JdbcTemplate
+ * ou de uma Connection obtida direto (rollups, orçamentos, versões dos dados)
+ * Um batch conta uma vez por statement, não por conjunto de parâmetros
+ */
+public class RequestSqlStatsListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = RequestSqlStatsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestSqlStats.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (stats == null || start == null) {
+            return;
+        }
+        stats.jdbcTime(System.nanoTime() - start);
+        for (QueryInfo query : queryInfoList) {
+            stats.statementExecuted(query.getQuery());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.finnantech.infrastructure.persistence.monitoring;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Envolve o DataSource num proxy (datasource-proxy) para que todo statement executado nas conexões
+ * do pool entre nas estatísticas da requisição, inclusive os que não passam pelo Hibernate
+ */
+@Component
+@ConditionalOnProperty(name = "sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(new RequestSqlStatsListener())
+                .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,15 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção com o total e a quantidade de despesas de uma categoria no período
+ */
+public interface CategoryExpenseProjection {
+
+    String getCategoryId();
+
+    BigDecimal getTotalAmount();
+
+    Long getTransactionCount();
+}
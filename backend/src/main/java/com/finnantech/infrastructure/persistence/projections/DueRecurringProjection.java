@@ -0,0 +1,11 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+/**
+ * Modelo recorrente vencido: id e usuário, usado para particionar o processamento
+ */
+public interface DueRecurringProjection {
+
+    String getId();
+
+    String getUserId();
+}
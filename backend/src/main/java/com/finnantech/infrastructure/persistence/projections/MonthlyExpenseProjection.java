@@ -0,0 +1,18 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção com o total e a quantidade de despesas de um mês (coluna month_year)
+ */
+public interface MonthlyExpenseProjection {
+
+    /**
+     * Mês de referência no formato YYYY-MM
+     */
+    String getMonthYear();
+
+    BigDecimal getTotalAmount();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,35 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção com os agregados financeiros de um mês (coluna month_year)
+ * Evita carregar entidades Transaction apenas para somar e contar
+ */
+public interface MonthlySummaryProjection {
+
+    /**
+     * Mês de referência no formato YYYY-MM
+     */
+    String getMonthYear();
+
+    /**
+     * Soma das receitas confirmadas do mês
+     */
+    BigDecimal getTotalIncome();
+
+    /**
+     * Soma das despesas confirmadas do mês
+     */
+    BigDecimal getTotalExpenses();
+
+    /**
+     * Quantidade de transações confirmadas do mês (receitas + despesas)
+     */
+    Long getTransactionCount();
+
+    /**
+     * Soma de todos os valores confirmados do mês (receitas + despesas)
+     */
+    BigDecimal getTotalAmount();
+}
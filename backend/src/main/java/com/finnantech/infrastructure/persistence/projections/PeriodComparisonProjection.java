@@ -0,0 +1,25 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção com os totais de um (tipo, categoria) nos dois períodos comparados
+ * As colunas 1 e 2 vêm de agregações condicionais (CASE) sobre o período de cada linha
+ */
+public interface PeriodComparisonProjection {
+
+    /**
+     * RECEITA ou DESPESA
+     */
+    String getType();
+
+    String getCategoryId();
+
+    BigDecimal getAmount1();
+
+    Long getCount1();
+
+    BigDecimal getAmount2();
+
+    Long getCount2();
+}
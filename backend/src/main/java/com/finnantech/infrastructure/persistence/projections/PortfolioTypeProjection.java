@@ -0,0 +1,25 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.finnantech.domain.entities.InvestmentType;
+
+/**
+ * Projeção com os totais das posições ativas de um usuário por tipo de investimento
+ */
+public interface PortfolioTypeProjection {
+
+    InvestmentType getType();
+
+    Long getHoldings();
+
+    BigDecimal getInvestedAmount();
+
+    /**
+     * Valor atual; posições ainda sem cotação entram pelo valor investido
+     */
+    BigDecimal getCurrentAmount();
+
+    LocalDateTime getLastUpdate();
+}
@@ -0,0 +1,45 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.finnantech.domain.entities.TransactionStatus;
+import com.finnantech.domain.entities.TransactionType;
+
+/**
+ * Projeção escalar de uma linha da exportação de transações
+ * Não gera entidades gerenciadas, então o contexto de persistência não cresce durante o streaming
+ */
+public interface TransactionExportProjection {
+
+    String getId();
+
+    LocalDate getTransactionDate();
+
+    TransactionType getType();
+
+    TransactionStatus getStatus();
+
+    BigDecimal getAmount();
+
+    String getCurrency();
+
+    String getCategoryId();
+
+    String getCategoryName();
+
+    String getPaymentMethodId();
+
+    String getDescription();
+
+    String getMerchantName();
+
+    String getMerchantCategory();
+
+    String getNotes();
+
+    String getTagsJson();
+
+    LocalDateTime getCreatedAt();
+}
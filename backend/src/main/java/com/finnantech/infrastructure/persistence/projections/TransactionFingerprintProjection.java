@@ -0,0 +1,22 @@
+package com.finnantech.infrastructure.persistence.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.finnantech.domain.entities.TransactionType;
+
+/**
+ * Campos usados para identificar transações já existentes na importação de extratos
+ */
+public interface TransactionFingerprintProjection {
+
+    String getExternalId();
+
+    TransactionType getType();
+
+    BigDecimal getAmount();
+
+    LocalDate getTransactionDate();
+
+    String getDescription();
+}
@@ -0,0 +1,28 @@
+package com.finnantech.infrastructure.persistence.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.finnantech.domain.entities.Budget;
+
+/**
+ * Repository para orçamentos mensais por categoria
+ */
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, String> {
+
+    /**
+     * Orçamentos ativos do usuário no mês (idx_budgets_user_month); os valores gastos já vêm mantidos
+     */
+    @Query("SELECT b FROM Budget b WHERE b.userId = :userId AND b.monthYear = :monthYear AND b.active = true")
+    List<Budget> findActiveByUserAndMonth(@Param("userId") String userId, @Param("monthYear") String monthYear);
+
+    Optional<Budget> findByUserIdAndCategoryIdAndMonthYear(String userId, String categoryId, String monthYear);
+
+    Optional<Budget> findByIdAndUserId(String id, String userId);
+}
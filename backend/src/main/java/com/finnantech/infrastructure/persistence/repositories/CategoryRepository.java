@@ -1,8 +1,11 @@
 package com.finnantech.infrastructure.persistence.repositories;
 
 import com.finnantech.domain.entities.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,8 @@ import java.util.Optional;
 /**
  * Repository para entidade Category
  * Contém queries otimizadas para consultas financeiras
+ * As consultas por usuário mais frequentes usam o cache de consultas do Hibernate, invalidado
+ * a cada escrita em categories feita pelo JPA
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, String> {
@@ -19,11 +24,13 @@ public interface CategoryRepository extends JpaRepository<Category, String> {
     /**
      * Busca todas as categorias ativas de um usuário específico
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByUserIdAndActiveTrue(String userId);
     
     /**
      * Busca todas as categorias do sistema (padrão) ativas
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByIsSystemDefaultTrueAndActiveTrue();
     
     /**
@@ -76,11 +83,13 @@ public interface CategoryRepository extends JpaRepository<Category, String> {
      * Conta quantas categorias personalizadas um usuário possui
      */
     @Query("SELECT COUNT(c) FROM Category c WHERE c.userId = :userId AND c.active = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countUserCategories(@Param("userId") String userId);
     
     /**
      * Verifica se existe categoria com o mesmo nome para o usuário
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByUserIdAndNameAndActiveTrue(String userId, String name);
     
     /**
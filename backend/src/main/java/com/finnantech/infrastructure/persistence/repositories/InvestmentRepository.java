@@ -0,0 +1,42 @@
+package com.finnantech.infrastructure.persistence.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.finnantech.domain.entities.Investment;
+import com.finnantech.infrastructure.persistence.projections.PortfolioTypeProjection;
+
+/**
+ * Repository para posições de investimento
+ */
+@Repository
+public interface InvestmentRepository extends JpaRepository<Investment, String> {
+
+    /**
+     * Posições ativas do usuário (idx_investments_user_active)
+     */
+    @Query("SELECT i FROM Investment i WHERE i.userId = :userId AND i.active = true ORDER BY i.purchaseDate DESC")
+    List<Investment> findActiveByUser(@Param("userId") String userId);
+
+    Optional<Investment> findByIdAndUserId(String id, String userId);
+
+    /**
+     * Símbolos com posições ativas, usados para pedir cotações à fonte de preços
+     */
+    @Query("SELECT DISTINCT i.symbol FROM Investment i WHERE i.symbol IS NOT NULL AND i.active = true")
+    List<String> findActiveSymbols();
+
+    /**
+     * Totais da carteira do usuário por tipo, agregados no banco
+     */
+    @Query("SELECT i.type AS type, COUNT(i) AS holdings, SUM(i.initialAmount) AS investedAmount, " +
+           "SUM(COALESCE(i.currentAmount, i.initialAmount)) AS currentAmount, MAX(i.lastUpdate) AS lastUpdate " +
+           "FROM Investment i WHERE i.userId = :userId AND i.active = true " +
+           "GROUP BY i.type")
+    List<PortfolioTypeProjection> getPortfolioByType(@Param("userId") String userId);
+}
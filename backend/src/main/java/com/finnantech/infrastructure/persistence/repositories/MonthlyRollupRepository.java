@@ -0,0 +1,80 @@
+package com.finnantech.infrastructure.persistence.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.finnantech.domain.entities.MonthlyRollup;
+import com.finnantech.domain.entities.MonthlyRollupId;
+import com.finnantech.infrastructure.persistence.projections.CategoryExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlyExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlySummaryProjection;
+import com.finnantech.infrastructure.persistence.projections.PeriodComparisonProjection;
+
+/**
+ * Repository para os agregados mensais materializados (monthly_rollups)
+ * Leituras do dashboard percorrem O(meses x categorias) linhas, independente do volume de transações
+ */
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, MonthlyRollupId> {
+    
+    /**
+     * DASHBOARD: Receitas, despesas, quantidade e soma por mês
+     */
+    @Query("SELECT r.monthYear AS monthYear, " +
+           "COALESCE(SUM(CASE WHEN r.type = 'RECEITA' THEN r.totalAmount ELSE 0 END), 0) AS totalIncome, " +
+           "COALESCE(SUM(CASE WHEN r.type = 'DESPESA' THEN r.totalAmount ELSE 0 END), 0) AS totalExpenses, " +
+           "COALESCE(SUM(r.transactionCount), 0) AS transactionCount, " +
+           "COALESCE(SUM(r.totalAmount), 0) AS totalAmount " +
+           "FROM MonthlyRollup r WHERE r.userId = :userId " +
+           "AND r.monthYear IN :monthYears " +
+           "GROUP BY r.monthYear")
+    List<MonthlySummaryProjection> getMonthlySummaries(@Param("userId") String userId,
+                                                       @Param("monthYears") Collection<String> monthYears);
+    
+    /**
+     * DASHBOARD: Gastos e quantidade de transações por categoria em um mês
+     */
+    @Query("SELECT r.categoryId AS categoryId, r.totalAmount AS totalAmount, r.transactionCount AS transactionCount " +
+           "FROM MonthlyRollup r WHERE r.userId = :userId " +
+           "AND r.monthYear = :monthYear AND r.type = 'DESPESA' " +
+           "AND r.transactionCount > 0 " +
+           "ORDER BY r.totalAmount DESC")
+    List<CategoryExpenseProjection> getExpensesByCategory(@Param("userId") String userId,
+                                                          @Param("monthYear") String monthYear);
+    
+    /**
+     * DASHBOARD: Despesas mensais (total e quantidade) em uma faixa de meses
+     */
+    @Query("SELECT r.monthYear AS monthYear, SUM(r.totalAmount) AS totalAmount, SUM(r.transactionCount) AS transactionCount " +
+           "FROM MonthlyRollup r WHERE r.userId = :userId " +
+           "AND r.type = 'DESPESA' " +
+           "AND r.monthYear BETWEEN :startMonthYear AND :endMonthYear " +
+           "GROUP BY r.monthYear " +
+           "ORDER BY r.monthYear ASC")
+    List<MonthlyExpenseProjection> getMonthlyExpenses(@Param("userId") String userId,
+                                                      @Param("startMonthYear") String startMonthYear,
+                                                      @Param("endMonthYear") String endMonthYear);
+    
+    /**
+     * DASHBOARD: Totais por tipo e categoria em duas faixas de meses, em uma única agregação
+     * Cada linha entra na coluna de cada faixa que a contém (faixas sobrepostas são permitidas)
+     */
+    @Query("SELECT r.type AS type, r.categoryId AS categoryId, " +
+           "COALESCE(SUM(CASE WHEN r.monthYear BETWEEN :start1 AND :end1 THEN r.totalAmount ELSE 0 END), 0) AS amount1, " +
+           "COALESCE(SUM(CASE WHEN r.monthYear BETWEEN :start1 AND :end1 THEN r.transactionCount ELSE 0 END), 0) AS count1, " +
+           "COALESCE(SUM(CASE WHEN r.monthYear BETWEEN :start2 AND :end2 THEN r.totalAmount ELSE 0 END), 0) AS amount2, " +
+           "COALESCE(SUM(CASE WHEN r.monthYear BETWEEN :start2 AND :end2 THEN r.transactionCount ELSE 0 END), 0) AS count2 " +
+           "FROM MonthlyRollup r WHERE r.userId = :userId " +
+           "AND (r.monthYear BETWEEN :start1 AND :end1 OR r.monthYear BETWEEN :start2 AND :end2) " +
+           "GROUP BY r.type, r.categoryId")
+    List<PeriodComparisonProjection> comparePeriods(@Param("userId") String userId,
+                                                    @Param("start1") String startMonthYear1,
+                                                    @Param("end1") String endMonthYear1,
+                                                    @Param("start2") String startMonthYear2,
+                                                    @Param("end2") String endMonthYear2);
+}
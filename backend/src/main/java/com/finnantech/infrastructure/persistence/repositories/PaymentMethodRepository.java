@@ -1,17 +1,24 @@
 package com.finnantech.infrastructure.persistence.repositories;
 
 import com.finnantech.domain.entities.PaymentMethod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository para entidade PaymentMethod
  * Contém queries otimizadas para gestão de métodos de pagamento
+ * As consultas por usuário mais frequentes usam o cache de consultas do Hibernate, invalidado
+ * a cada escrita em payment_methods feita pelo JPA
  */
 @Repository
 public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, String> {
@@ -19,11 +26,13 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, St
     /**
      * Busca todos os métodos de pagamento ativos de um usuário
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PaymentMethod> findByUserIdAndActiveTrueOrderByIsDefaultDescNameAsc(String userId);
     
     /**
      * Busca o método de pagamento padrão de um usuário
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PaymentMethod> findByUserIdAndIsDefaultTrueAndActiveTrue(String userId);
     
     /**
@@ -120,4 +129,13 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, St
            "ORDER BY pm.isDefault DESC, pm.name ASC")
     List<PaymentMethod> findByUserAndBrand(@Param("userId") String userId, 
                                           @Param("brand") String brand);
+    
+    /**
+     * Filtra, em uma única consulta, os ids de métodos ativos que pertencem ao usuário
+     */
+    @Query("SELECT pm.id FROM PaymentMethod pm WHERE pm.userId = :userId " +
+           "AND pm.active = true AND pm.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Set<String> findActiveIdsByUserAndIdIn(@Param("userId") String userId,
+                                           @Param("ids") Collection<String> ids);
 } 
\ No newline at end of file
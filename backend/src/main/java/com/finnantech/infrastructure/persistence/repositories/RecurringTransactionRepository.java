@@ -0,0 +1,47 @@
+package com.finnantech.infrastructure.persistence.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.finnantech.domain.entities.RecurringTransaction;
+import com.finnantech.infrastructure.persistence.projections.DueRecurringProjection;
+
+/**
+ * Repository para modelos de transações recorrentes
+ */
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, String> {
+    
+    /**
+     * Próximos modelos vencidos, na ordem de next_execution (idx_recurring_next_execution)
+     */
+    @Query("SELECT r.id AS id, r.userId AS userId FROM RecurringTransaction r " +
+           "WHERE r.nextExecution <= :today AND r.active = true " +
+           "ORDER BY r.nextExecution, r.id")
+    List<DueRecurringProjection> findDue(@Param("today") LocalDate today, Pageable pageable);
+    
+    /**
+     * Avança a execução apenas se o modelo ainda estiver no estado lido (compare-and-set)
+     * Retorna 0 quando outra execução já processou o modelo
+     */
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.nextExecution = :nextExecution, r.executionCount = :executionCount, " +
+           "r.lastExecution = :lastExecution, r.active = :active, r.updatedAt = :updatedAt " +
+           "WHERE r.id = :id AND r.nextExecution = :expectedNextExecution AND r.executionCount = :expectedExecutionCount")
+    int advance(@Param("id") String id,
+                @Param("expectedNextExecution") LocalDate expectedNextExecution,
+                @Param("expectedExecutionCount") Integer expectedExecutionCount,
+                @Param("nextExecution") LocalDate nextExecution,
+                @Param("executionCount") Integer executionCount,
+                @Param("lastExecution") LocalDate lastExecution,
+                @Param("active") Boolean active,
+                @Param("updatedAt") LocalDateTime updatedAt);
+}
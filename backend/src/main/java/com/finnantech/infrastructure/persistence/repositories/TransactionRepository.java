@@ -2,28 +2,111 @@ package com.finnantech.infrastructure.persistence.repositories;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.finnantech.domain.entities.Transaction;
+import com.finnantech.domain.entities.TransactionStatus;
+import com.finnantech.domain.entities.TransactionType;
+import com.finnantech.infrastructure.persistence.projections.CategoryExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlyExpenseProjection;
+import com.finnantech.infrastructure.persistence.projections.MonthlySummaryProjection;
+import com.finnantech.infrastructure.persistence.projections.PeriodComparisonProjection;
+import com.finnantech.infrastructure.persistence.projections.TransactionExportProjection;
+import com.finnantech.infrastructure.persistence.projections.TransactionFingerprintProjection;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository para entidade Transaction
  * Contém queries otimizadas para dashboard e relatórios financeiros
+ * A listagem paginada por keyset é montada com TransactionSpecifications
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
+public interface TransactionRepository extends JpaRepository<Transaction, String>, JpaSpecificationExecutor<Transaction> {
+    
+    String EXPORT_SELECT =
+        "SELECT t.id AS id, t.transactionDate AS transactionDate, t.type AS type, t.status AS status, " +
+        "t.amount AS amount, t.currency AS currency, t.categoryId AS categoryId, c.name AS categoryName, " +
+        "t.paymentMethodId AS paymentMethodId, t.description AS description, t.merchantName AS merchantName, " +
+        "t.merchantCategory AS merchantCategory, t.notes AS notes, t.tagsJson AS tagsJson, t.createdAt AS createdAt " +
+        "FROM Transaction t LEFT JOIN Category c ON c.id = t.categoryId " +
+        "WHERE t.userId = :userId ";
+    
+    String EXPORT_ORDER = "ORDER BY t.transactionDate, t.createdAt, t.id";
     
     /**
-     * Busca transações de um usuário com paginação
+     * Cursor somente-avante com as transações do usuário para exportação (datas opcionais)
+     * Cada combinação de datas tem sua própria consulta, então só os limites informados entram no SQL
+     * e viram faixa em idx_transactions_user_date. Deve ser consumido dentro de uma transação e fechado ao final
      */
-    Page<Transaction> findByUserIdOrderByTransactionDateDescCreatedAtDesc(String userId, Pageable pageable);
+    default Stream<TransactionExportProjection> streamForExport(String userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            return streamForExportBetween(userId, startDate, endDate);
+        }
+        if (startDate != null) {
+            return streamForExportFrom(userId, startDate);
+        }
+        if (endDate != null) {
+            return streamForExportUntil(userId, endDate);
+        }
+        return streamForExportAll(userId);
+    }
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + EXPORT_ORDER)
+    Stream<TransactionExportProjection> streamForExportAll(@Param("userId") String userId);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "AND t.transactionDate >= :startDate " + EXPORT_ORDER)
+    Stream<TransactionExportProjection> streamForExportFrom(@Param("userId") String userId,
+                                                            @Param("startDate") LocalDate startDate);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "AND t.transactionDate <= :endDate " + EXPORT_ORDER)
+    Stream<TransactionExportProjection> streamForExportUntil(@Param("userId") String userId,
+                                                             @Param("endDate") LocalDate endDate);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "AND t.transactionDate BETWEEN :startDate AND :endDate " + EXPORT_ORDER)
+    Stream<TransactionExportProjection> streamForExportBetween(@Param("userId") String userId,
+                                                               @Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate);
+    
+    /**
+     * Identificadores de todas as transações do usuário (id externo, tipo, valor, data e descrição)
+     * em uma única consulta, para a deduplicação da importação de extratos
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.externalId AS externalId, t.type AS type, t.amount AS amount, t.transactionDate AS transactionDate, " +
+           "t.description AS description FROM Transaction t WHERE t.userId = :userId")
+    Stream<TransactionFingerprintProjection> streamFingerprintsByUser(@Param("userId") String userId);
     
     /**
      * Busca transações de um usuário em um período específico
@@ -83,6 +166,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
                                              @Param("startDate") LocalDate startDate,
                                              @Param("endDate") LocalDate endDate);
     
+    /**
+     * DASHBOARD: Receitas, despesas, quantidade e soma por mês em uma única consulta
+     * Agregados condicionais agrupados pela coluna desnormalizada month_year
+     */
+    @Query("SELECT t.monthYear AS monthYear, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'RECEITA' THEN t.amount ELSE 0 END), 0) AS totalIncome, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'DESPESA' THEN t.amount ELSE 0 END), 0) AS totalExpenses, " +
+           "COUNT(t.id) AS transactionCount, " +
+           "COALESCE(SUM(t.amount), 0) AS totalAmount " +
+           "FROM Transaction t WHERE t.userId = :userId " +
+           "AND t.status = 'CONFIRMADA' " +
+           "AND t.monthYear IN :monthYears " +
+           "GROUP BY t.monthYear")
+    List<MonthlySummaryProjection> getMonthlySummaries(@Param("userId") String userId,
+                                                       @Param("monthYears") Collection<String> monthYears);
+    
     /**
      * DASHBOARD: Últimas transações de um usuário
      */
@@ -94,32 +193,61 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
                                                   @Param("limit") int limit);
     
     /**
-     * DASHBOARD: Gastos por categoria em período
+     * DASHBOARD: Gastos e quantidade de transações por categoria em período
      */
-    @Query("SELECT t.categoryId, SUM(t.amount) FROM Transaction t WHERE t.userId = :userId " +
+    @Query("SELECT t.categoryId AS categoryId, SUM(t.amount) AS totalAmount, COUNT(t.id) AS transactionCount " +
+           "FROM Transaction t WHERE t.userId = :userId " +
            "AND t.type = 'DESPESA' AND t.status = 'CONFIRMADA' " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
            "GROUP BY t.categoryId " +
            "ORDER BY SUM(t.amount) DESC")
-    List<Object[]> getExpensesByCategoryAndPeriod(@Param("userId") String userId,
-                                                 @Param("startDate") LocalDate startDate,
-                                                 @Param("endDate") LocalDate endDate);
+    List<CategoryExpenseProjection> getExpensesByCategoryAndPeriod(@Param("userId") String userId,
+                                                                  @Param("startDate") LocalDate startDate,
+                                                                  @Param("endDate") LocalDate endDate);
     
     /**
-     * DASHBOARD: Despesas mensais para gráfico de barras
+     * DASHBOARD: Despesas mensais (total e quantidade) para gráfico de barras
+     * Filtra pela faixa de month_year para usar o índice idx_transactions_user_month
      */
-    @Query(value = "SELECT YEAR(transaction_date) as ano, MONTH(transaction_date) as mes, SUM(amount) as total " +
+    @Query(value = "SELECT month_year AS monthYear, SUM(amount) AS totalAmount, COUNT(*) AS transactionCount " +
            "FROM transactions WHERE user_id = ?1 " +
+           "AND month_year BETWEEN ?2 AND ?3 " +
            "AND status = 'CONFIRMADA' " +
            "AND type = 'DESPESA' " +
-           "AND transaction_date >= ?2 " +
-           "AND transaction_date <= ?3 " +
-           "GROUP BY YEAR(transaction_date), MONTH(transaction_date) " +
-           "ORDER BY YEAR(transaction_date) ASC, MONTH(transaction_date) ASC", 
+           "AND transaction_date >= ?4 " +
+           "AND transaction_date <= ?5 " +
+           "GROUP BY month_year " +
+           "ORDER BY month_year ASC", 
+           nativeQuery = true)
+    List<MonthlyExpenseProjection> getMonthlyExpenses(@Param("userId") String userId,
+                                                      @Param("startMonthYear") String startMonthYear,
+                                                      @Param("endMonthYear") String endMonthYear,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+    
+    /**
+     * DASHBOARD: Totais por tipo e categoria em dois intervalos de datas, em uma única agregação
+     * Usado para períodos que não são meses completos; a faixa ?6..?7 envolve os dois intervalos
+     * e limita a leitura em idx_transactions_user_date
+     */
+    @Query(value = "SELECT type AS type, category_id AS categoryId, " +
+           "SUM(CASE WHEN transaction_date BETWEEN ?2 AND ?3 THEN amount ELSE 0 END) AS amount1, " +
+           "SUM(CASE WHEN transaction_date BETWEEN ?2 AND ?3 THEN 1 ELSE 0 END) AS count1, " +
+           "SUM(CASE WHEN transaction_date BETWEEN ?4 AND ?5 THEN amount ELSE 0 END) AS amount2, " +
+           "SUM(CASE WHEN transaction_date BETWEEN ?4 AND ?5 THEN 1 ELSE 0 END) AS count2 " +
+           "FROM transactions WHERE user_id = ?1 " +
+           "AND status = 'CONFIRMADA' " +
+           "AND transaction_date BETWEEN ?6 AND ?7 " +
+           "AND (transaction_date BETWEEN ?2 AND ?3 OR transaction_date BETWEEN ?4 AND ?5) " +
+           "GROUP BY type, category_id",
            nativeQuery = true)
-    List<Object[]> getMonthlyExpenses(@Param("userId") String userId,
-                                     @Param("startDate") LocalDate startDate,
-                                     @Param("endDate") LocalDate endDate);
+    List<PeriodComparisonProjection> comparePeriods(@Param("userId") String userId,
+                                                    @Param("startDate1") LocalDate startDate1,
+                                                    @Param("endDate1") LocalDate endDate1,
+                                                    @Param("startDate2") LocalDate startDate2,
+                                                    @Param("endDate2") LocalDate endDate2,
+                                                    @Param("rangeStart") LocalDate rangeStart,
+                                                    @Param("rangeEnd") LocalDate rangeEnd);
     
     /**
      * Busca transações pendentes de um usuário
@@ -0,0 +1,74 @@
+package com.finnantech.infrastructure.persistence.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.finnantech.domain.entities.Transaction;
+import com.finnantech.domain.entities.TransactionStatus;
+import com.finnantech.domain.entities.TransactionType;
+
+/**
+ * Predicados da listagem de transações por keyset
+ * Cada filtro só entra no SQL quando informado, e o cursor vira um limite simples em
+ * transaction_date (coluna seguinte a user_id em idx_transactions_user_date) mais o desempate,
+ * então qualquer página é uma faixa do índice a partir da posição do cursor
+ */
+public final class TransactionSpecifications {
+
+    /**
+     * Mesma ordem de idx_transactions_user_date; user_id é fixo pelo filtro, mas precisa aparecer
+     * no ORDER BY para o H2 ler o índice já ordenado em vez de ordenar todas as linhas do usuário
+     */
+    public static final Sort KEYSET_ORDER = Sort.by(
+        Sort.Order.asc("userId"), Sort.Order.desc("transactionDate"), Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> ofUser(String userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    /**
+     * Transações depois da posição (transactionDate, createdAt, id) na ordem decrescente
+     */
+    public static Specification<Transaction> after(LocalDate transactionDate, LocalDateTime createdAt, String id) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("transactionDate"), transactionDate),
+            cb.or(
+                cb.lessThan(root.get("transactionDate"), transactionDate),
+                cb.and(
+                    cb.equal(root.get("transactionDate"), transactionDate),
+                    cb.or(
+                        cb.lessThan(root.get("createdAt"), createdAt),
+                        cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))))));
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> hasCategory(String categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId);
+    }
+
+    public static Specification<Transaction> hasPaymentMethod(String paymentMethodId) {
+        return (root, query, cb) -> cb.equal(root.get("paymentMethodId"), paymentMethodId);
+    }
+
+    public static Specification<Transaction> hasStatus(TransactionStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Transaction> amountAtLeast(BigDecimal minAmount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Transaction> amountAtMost(BigDecimal maxAmount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
+    }
+}
@@ -0,0 +1,141 @@
+package com.finnantech.infrastructure.persistence.rollups;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escrita JDBC do valor gasto dos orçamentos (budgets)
+ * Recebe os mesmos deltas consolidados dos agregados mensais: cada delta de DESPESA ajusta
+ * spent_amount e remaining_amount do orçamento (usuário, categoria, mês), e a passagem do
+ * limite de alerta é detectada na própria escrita
+ */
+@Component
+public class BudgetSpendingWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetSpendingWriter.class);
+
+    private static final String EXPENSE_TYPE = "DESPESA";
+
+    // as expressões do SET usam os valores anteriores da linha
+    private static final String APPLY_SQL =
+        "UPDATE budgets SET spent_amount = spent_amount + ?, remaining_amount = planned_amount - (spent_amount + ?), " +
+        "alert_sent = CASE WHEN (spent_amount + ?) * 100 < planned_amount * alert_threshold THEN FALSE ELSE alert_sent END, " +
+        "updated_at = CURRENT_TIMESTAMP " +
+        "WHERE user_id = ? AND category_id = ? AND month_year = ?";
+
+    // só atualiza (e conta) a linha que acabou de atingir o limite
+    private static final String CROSSING_SQL =
+        "UPDATE budgets SET alert_sent = TRUE " +
+        "WHERE user_id = ? AND category_id = ? AND month_year = ? AND active = TRUE AND alert_sent = FALSE " +
+        "AND spent_amount * 100 >= planned_amount * alert_threshold";
+
+    private static final String REBUILD_SPENT_SQL =
+        "UPDATE budgets b SET spent_amount = COALESCE((SELECT r.total_amount FROM monthly_rollups r " +
+        "WHERE r.user_id = b.user_id AND r.month_year = b.month_year AND r.type = 'DESPESA' " +
+        "AND r.category_id = b.category_id), 0)";
+
+    private static final String REBUILD_STATUS_SQL =
+        "UPDATE budgets SET remaining_amount = planned_amount - spent_amount, " +
+        "alert_sent = CASE WHEN spent_amount * 100 >= planned_amount * alert_threshold THEN TRUE ELSE FALSE END, " +
+        "updated_at = CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MonthlyRollupWriter rollupWriter;
+
+    public BudgetSpendingWriter(JdbcTemplate jdbcTemplate, MonthlyRollupWriter rollupWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupWriter = rollupWriter;
+    }
+
+    /**
+     * Aplica os deltas de despesa em lote na conexão informada
+     * Retorna os deltas cujo orçamento passou do limite de alerta nesta escrita
+     */
+    public List<MonthlyRollupDelta> apply(Connection connection, Collection<MonthlyRollupDelta> deltas) throws SQLException {
+        List<MonthlyRollupDelta> expenses = deltas.stream()
+            .filter(delta -> EXPENSE_TYPE.equals(delta.type()) && delta.amount().signum() != 0)
+            .toList();
+        if (expenses.isEmpty()) {
+            return List.of();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(APPLY_SQL)) {
+            for (MonthlyRollupDelta delta : expenses) {
+                statement.setBigDecimal(1, delta.amount());
+                statement.setBigDecimal(2, delta.amount());
+                statement.setBigDecimal(3, delta.amount());
+                statement.setString(4, delta.userId());
+                statement.setString(5, delta.categoryId());
+                statement.setString(6, delta.monthYear());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        List<MonthlyRollupDelta> increases = expenses.stream().filter(delta -> delta.amount().signum() > 0).toList();
+        if (increases.isEmpty()) {
+            return List.of();
+        }
+        List<MonthlyRollupDelta> crossed = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(CROSSING_SQL)) {
+            for (MonthlyRollupDelta delta : increases) {
+                statement.setString(1, delta.userId());
+                statement.setString(2, delta.categoryId());
+                statement.setString(3, delta.monthYear());
+                statement.addBatch();
+            }
+            int[] updated = statement.executeBatch();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] > 0) {
+                    crossed.add(increases.get(i));
+                }
+            }
+        }
+        for (MonthlyRollupDelta delta : crossed) {
+            log.info("Orçamento atingiu o limite de alerta: usuário {}, categoria {}, mês {}",
+                delta.userId(), delta.categoryId(), delta.monthYear());
+        }
+        return crossed;
+    }
+
+    /**
+     * Recalcula o valor gasto de todos os orçamentos a partir dos agregados mensais
+     */
+    public int rebuildAll() {
+        int rows = jdbcTemplate.update(REBUILD_SPENT_SQL);
+        jdbcTemplate.update(REBUILD_STATUS_SQL);
+        return rows;
+    }
+
+    /**
+     * Recalcula o valor gasto dos orçamentos de um usuário a partir dos agregados mensais
+     */
+    public int rebuildForUser(String userId) {
+        int rows = jdbcTemplate.update(REBUILD_SPENT_SQL + " WHERE b.user_id = ?", userId);
+        jdbcTemplate.update(REBUILD_STATUS_SQL + " WHERE user_id = ?", userId);
+        return rows;
+    }
+
+    /**
+     * Sincroniza um orçamento já gravado com o agregado mensal da categoria
+     * Antes da cópia, um MERGE de delta zero trava a linha do agregado (criando-a se preciso): uma
+     * transação concorrente que já gravou o delta faz esta esperar o seu commit e o valor copiado
+     * já o inclui; uma que ainda não gravou espera este commit e então encontra o orçamento em apply
+     */
+    public int rebuildBudget(String budgetId, String userId, String categoryId, String monthYear) {
+        rollupWriter.apply(List.of(new MonthlyRollupDelta(userId, monthYear, EXPENSE_TYPE, categoryId, BigDecimal.ZERO, 0)));
+        int rows = jdbcTemplate.update(REBUILD_SPENT_SQL + " WHERE b.id = ?", budgetId);
+        jdbcTemplate.update(REBUILD_STATUS_SQL + " WHERE id = ?", budgetId);
+        return rows;
+    }
+}
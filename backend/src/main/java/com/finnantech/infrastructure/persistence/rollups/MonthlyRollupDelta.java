@@ -0,0 +1,33 @@
+package com.finnantech.infrastructure.persistence.rollups;
+
+import java.math.BigDecimal;
+
+/**
+ * Variação a ser aplicada em uma linha de monthly_rollups
+ */
+public record MonthlyRollupDelta(
+    String userId,
+    String monthYear,
+    String type,
+    String categoryId,
+    BigDecimal amount,
+    long count
+) {
+    
+    public boolean isEmpty() {
+        return amount.signum() == 0 && count == 0;
+    }
+    
+    public MonthlyRollupDelta negate() {
+        return new MonthlyRollupDelta(userId, monthYear, type, categoryId, amount.negate(), -count);
+    }
+    
+    public boolean sameKey(MonthlyRollupDelta other) {
+        return userId.equals(other.userId) && monthYear.equals(other.monthYear)
+            && type.equals(other.type) && categoryId.equals(other.categoryId);
+    }
+    
+    public MonthlyRollupDelta plus(MonthlyRollupDelta other) {
+        return new MonthlyRollupDelta(userId, monthYear, type, categoryId, amount.add(other.amount), count + other.count);
+    }
+}
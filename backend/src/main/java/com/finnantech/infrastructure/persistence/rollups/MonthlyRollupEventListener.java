@@ -0,0 +1,193 @@
+package com.finnantech.infrastructure.persistence.rollups;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.finnantech.domain.entities.Transaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Listener Hibernate que mantém monthly_rollups a cada insert, update ou delete de Transaction
+ * Os deltas são aplicados antes do commit, na mesma transação e conexão da escrita original,
+ * o que cobre também as mudanças de status feitas por confirm() e cancel()
+ * Dentro de uma transação Spring os deltas são acumulados e consolidados por chave, então
+ * escritas em lote geram um único MERGE batch no commit
+ * Os mesmos deltas mantêm o valor gasto dos orçamentos (BudgetSpendingWriter)
+ */
+@Component
+public class MonthlyRollupEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    
+    private static final String CONFIRMED_STATUS = "CONFIRMADA";
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final MonthlyRollupWriter rollupWriter;
+    private final BudgetSpendingWriter budgetWriter;
+    
+    public MonthlyRollupEventListener(EntityManagerFactory entityManagerFactory, MonthlyRollupWriter rollupWriter,
+                                      BudgetSpendingWriter budgetWriter) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.rollupWriter = rollupWriter;
+        this.budgetWriter = budgetWriter;
+    }
+    
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+    
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Transaction) {
+            MonthlyRollupDelta delta = contribution(event.getPersister(), event.getState());
+            schedule(event.getSession(), delta != null ? List.of(delta) : List.of());
+        }
+    }
+    
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Transaction) || event.getOldState() == null) {
+            return;
+        }
+        MonthlyRollupDelta removed = contribution(event.getPersister(), event.getOldState());
+        MonthlyRollupDelta added = contribution(event.getPersister(), event.getState());
+        
+        List<MonthlyRollupDelta> deltas = new ArrayList<>();
+        if (removed != null && added != null && removed.sameKey(added)) {
+            deltas.add(added.plus(removed.negate()));
+        } else {
+            if (removed != null) deltas.add(removed.negate());
+            if (added != null) deltas.add(added);
+        }
+        schedule(event.getSession(), deltas);
+    }
+    
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Transaction) {
+            MonthlyRollupDelta delta = contribution(event.getPersister(), event.getDeletedState());
+            schedule(event.getSession(), delta != null ? List.of(delta.negate()) : List.of());
+        }
+    }
+    
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+    
+    /**
+     * Contribuição de um estado da transação para o agregado (apenas transações confirmadas contam)
+     */
+    private MonthlyRollupDelta contribution(EntityPersister persister, Object[] state) {
+        if (state == null) {
+            return null;
+        }
+        String[] names = persister.getPropertyNames();
+        Object status = valueOf(names, state, "status");
+        Object monthYear = valueOf(names, state, "monthYear");
+        if (status == null || !CONFIRMED_STATUS.equals(status.toString()) || monthYear == null) {
+            return null;
+        }
+        return new MonthlyRollupDelta(
+            (String) valueOf(names, state, "userId"),
+            monthYear.toString(),
+            valueOf(names, state, "type").toString(),
+            (String) valueOf(names, state, "categoryId"),
+            (BigDecimal) valueOf(names, state, "amount"),
+            1
+        );
+    }
+    
+    private Object valueOf(String[] names, Object[] state, String property) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException("Propriedade não mapeada em Transaction: " + property);
+    }
+    
+    private void schedule(EventSource session, List<MonthlyRollupDelta> deltas) {
+        List<MonthlyRollupDelta> pending = deltas.stream().filter(delta -> !delta.isEmpty()).toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+        pendingDeltas(session).addAll(pending);
+    }
+    
+    /**
+     * Deltas pendentes da transação corrente, aplicados uma única vez antes do commit
+     */
+    private PendingDeltas pendingDeltas(EventSource session) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return register(session, new PendingDeltas());
+        }
+        
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = register(session, new PendingDeltas());
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MonthlyRollupEventListener.this);
+                }
+            });
+        }
+        return pending;
+    }
+    
+    private PendingDeltas register(EventSource session, PendingDeltas pending) {
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s ->
+            s.doWork(connection -> {
+                List<MonthlyRollupDelta> deltas = pending.consolidated();
+                rollupWriter.apply(connection, deltas);
+                budgetWriter.apply(connection, deltas);
+            }));
+        return pending;
+    }
+    
+    /**
+     * Deltas consolidados por (usuário, mês, tipo, categoria)
+     */
+    private static final class PendingDeltas {
+        
+        private final Map<List<String>, MonthlyRollupDelta> byKey = new LinkedHashMap<>();
+        
+        void addAll(List<MonthlyRollupDelta> deltas) {
+            for (MonthlyRollupDelta delta : deltas) {
+                byKey.merge(List.of(delta.userId(), delta.monthYear(), delta.type(), delta.categoryId()),
+                    delta, MonthlyRollupDelta::plus);
+            }
+        }
+        
+        List<MonthlyRollupDelta> consolidated() {
+            return byKey.values().stream().filter(delta -> !delta.isEmpty()).toList();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.finnantech.infrastructure.persistence.rollups;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escrita JDBC dos agregados mensais (monthly_rollups)
+ * Aplica deltas com MERGE e reconstrói os agregados a partir de transactions
+ */
+@Component
+public class MonthlyRollupWriter {
+    
+    private static final String MERGE_SQL =
+        "MERGE INTO monthly_rollups r " +
+        "USING (SELECT CAST(? AS VARCHAR(36)) AS user_id, CAST(? AS VARCHAR(7)) AS month_year, " +
+        "CAST(? AS VARCHAR(20)) AS type, CAST(? AS VARCHAR(36)) AS category_id, " +
+        "CAST(? AS DECIMAL(15,2)) AS amount, CAST(? AS BIGINT) AS cnt) d " +
+        "ON (r.user_id = d.user_id AND r.month_year = d.month_year AND r.type = d.type AND r.category_id = d.category_id) " +
+        "WHEN MATCHED THEN UPDATE SET total_amount = r.total_amount + d.amount, " +
+        "transaction_count = r.transaction_count + d.cnt, updated_at = CURRENT_TIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, month_year, type, category_id, total_amount, transaction_count, updated_at) " +
+        "VALUES (d.user_id, d.month_year, d.type, d.category_id, d.amount, d.cnt, CURRENT_TIMESTAMP)";
+    
+    private static final String REBUILD_SELECT =
+        "SELECT user_id, month_year, type, category_id, SUM(amount), COUNT(*), CURRENT_TIMESTAMP " +
+        "FROM transactions WHERE status = 'CONFIRMADA' AND month_year IS NOT NULL ";
+    
+    private static final String REBUILD_INSERT =
+        "INSERT INTO monthly_rollups (user_id, month_year, type, category_id, total_amount, transaction_count, updated_at) ";
+    
+    private static final String REBUILD_GROUP_BY = "GROUP BY user_id, month_year, type, category_id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public MonthlyRollupWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * Aplica os deltas na conexão da transação corrente do Spring
+     */
+    public void apply(Collection<MonthlyRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            apply(connection, deltas);
+            return null;
+        });
+    }
+    
+    /**
+     * Aplica os deltas em lote na conexão informada
+     */
+    public void apply(Connection connection, Collection<MonthlyRollupDelta> deltas) throws SQLException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_SQL)) {
+            for (MonthlyRollupDelta delta : deltas) {
+                statement.setString(1, delta.userId());
+                statement.setString(2, delta.monthYear());
+                statement.setString(3, delta.type());
+                statement.setString(4, delta.categoryId());
+                statement.setBigDecimal(5, delta.amount());
+                statement.setLong(6, delta.count());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+    
+    /**
+     * Reconstrói os agregados de um usuário a partir das transações
+     */
+    public int rebuildForUser(String userId) {
+        jdbcTemplate.update("DELETE FROM monthly_rollups WHERE user_id = ?", userId);
+        return jdbcTemplate.update(REBUILD_INSERT + REBUILD_SELECT + "AND user_id = ? " + REBUILD_GROUP_BY, userId);
+    }
+    
+    /**
+     * Reconstrói os agregados de todos os usuários a partir das transações
+     */
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM monthly_rollups");
+        return jdbcTemplate.update(REBUILD_INSERT + REBUILD_SELECT + REBUILD_GROUP_BY);
+    }
+}
@@ -0,0 +1,64 @@
+package com.finnantech.infrastructure.persistence.seed;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega a massa sintética na inicialização quando seed.synthetic.enabled=true
+ * O próprio seeder monta os agregados mensais dos usuários gerados, sem depender de
+ * rollups.rebuild-on-startup
+ */
+@Component
+@ConditionalOnProperty(name = "seed.synthetic.enabled", havingValue = "true")
+public class SyntheticDataSeedRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeedRunner.class);
+
+    private final SyntheticDataSeeder seeder;
+
+    @Value("${seed.synthetic.users:1000}")
+    private int users;
+
+    @Value("${seed.synthetic.transactions-per-user:1000}")
+    private int transactionsPerUser;
+
+    @Value("${seed.synthetic.years:3}")
+    private int years;
+
+    @Value("${seed.synthetic.seed:42}")
+    private long seed;
+
+    @Value("${seed.synthetic.threads:4}")
+    private int threads;
+
+    @Value("${seed.synthetic.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.synthetic.anchor-date:}")
+    private String anchorDate;
+
+    public SyntheticDataSeedRunner(SyntheticDataSeeder seeder) {
+        this.seeder = seeder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seeder.isSeeded(seed)) {
+            log.info("Massa sintética da semente {} já carregada", seed);
+            return;
+        }
+
+        SyntheticDataSeeder.SeedResult result = seeder.seed(
+            new SyntheticDataSeeder.SeedPlan(users, transactionsPerUser, years, seed, threads, batchSize,
+                anchorDate.isBlank() ? LocalDate.now() : LocalDate.parse(anchorDate)));
+        log.info("Massa sintética carregada: {} usuários, {} transações em {} ms",
+            result.userIds().size(), result.transactions(), result.elapsedMillis());
+    }
+}
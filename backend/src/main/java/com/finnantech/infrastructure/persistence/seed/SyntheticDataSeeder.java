@@ -0,0 +1,374 @@
+package com.finnantech.infrastructure.persistence.seed;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.finnantech.application.services.MonthlyRollupService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Gerador de massa de dados sintética para benchmarks e testes de carga
+ * Cria usuários com categorias próprias, métodos de pagamento e anos de transações
+ * (estabelecimentos com distribuição enviesada, grupos recorrentes, status e moedas variados)
+ * via JDBC batch, gerando cada usuário em paralelo. O resultado é determinístico a partir
+ * da semente e da data de referência do plano: cada usuário usa um Random próprio derivado da
+ * semente e todas as datas são contadas a partir da data de referência
+ * As inserções não passam pelo Hibernate: os agregados mensais e os orçamentos de cada usuário são
+ * reconstruídos na mesma transação da sua carga e o cache de segundo nível é esvaziado ao final
+ */
+@Component
+public class SyntheticDataSeeder {
+
+    private static final DateTimeFormatter MONTH_YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String EMAIL_DOMAIN = "@synthetic.finnantech.dev";
+    // Mesmo hash dos usuários de teste do data.sql
+    private static final String PASSWORD_HASH = "$2a$10$AwuNgP8vweHcWfevI0F5aOAV/oiseSUfuikGb2nMin8tyPcMmMcXq";
+    private static final double MERCHANT_SKEW = 2.5;
+
+    private static final String INSERT_USER = "INSERT INTO users (id, name, email, password_hash, provider, email_verified, " +
+        "created_at, updated_at) VALUES (?, ?, ?, ?, 'LOCAL', TRUE, ?, ?)";
+    private static final String INSERT_CATEGORY = "INSERT INTO categories (id, user_id, name, description, color, icon, type, " +
+        "is_system_default, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 'DESPESA', FALSE, TRUE, ?, ?)";
+    private static final String INSERT_PAYMENT_METHOD = "INSERT INTO payment_methods (id, user_id, type, name, card_last_digits, " +
+        "is_default, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions (id, user_id, category_id, payment_method_id, type, " +
+        "amount, currency, description, transaction_date, merchant_name, merchant_category, status, is_recurring, " +
+        "recurring_group_id, month_year, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<Merchant> MERCHANTS = List.of(
+        new Merchant("iFood", "Delivery", "cat-system-004", 2500, 12000),
+        new Merchant("Carrefour", "Supermercado", "cat-system-001", 4000, 60000),
+        new Merchant("Uber", "Transporte por aplicativo", "cat-system-003", 1200, 6000),
+        new Merchant("Pão de Açúcar", "Supermercado", "cat-system-001", 3000, 45000),
+        new Merchant("Posto Shell", "Combustível", "cat-system-003", 8000, 35000),
+        new Merchant("Drogasil", "Farmácia", "cat-system-005", 1500, 25000),
+        new Merchant("Padaria Real", "Padaria", "cat-system-004", 800, 4500),
+        new Merchant("Rappi", "Delivery", "cat-system-004", 2500, 10000),
+        new Merchant("Amazon", "E-commerce", "cat-system-008", 3000, 50000),
+        new Merchant("99", "Transporte por aplicativo", "cat-system-003", 1000, 5000),
+        new Merchant("Outback", "Restaurante", "cat-system-004", 12000, 40000),
+        new Merchant("Renner", "Vestuário", "cat-system-008", 8000, 45000),
+        new Merchant("Cinemark", "Cinema", "cat-system-006", 3000, 12000),
+        new Merchant("Livraria Cultura", "Livraria", "cat-system-007", 4000, 20000),
+        new Merchant("Laboratório Fleury", "Exames", "cat-system-005", 10000, 80000),
+        new Merchant("Ingresso.com", "Eventos", "cat-system-006", 8000, 60000),
+        new Merchant("Udemy", "Cursos online", "cat-system-007", 2500, 30000),
+        new Merchant("Cliente PJ", "Serviços prestados", "cat-system-012", 50000, 500000, "RECEITA"),
+        new Merchant("Mercado Livre", "Vendas online", "cat-system-013", 3000, 80000, "RECEITA")
+    );
+
+    private static final List<RecurringTemplate> RECURRING = List.of(
+        new RecurringTemplate("Salário", "Empresa", "Folha de pagamento", "cat-system-011", "RECEITA", 5, 400000, 2000000),
+        new RecurringTemplate("Aluguel", "Imobiliária", "Moradia", "cat-system-002", "DESPESA", 10, 120000, 450000),
+        new RecurringTemplate("Netflix", "Netflix", "Streaming", "cat-system-006", "DESPESA", 15, 3990, 5590),
+        new RecurringTemplate("Spotify", "Spotify", "Streaming", "cat-system-006", "DESPESA", 20, 2190, 3490),
+        new RecurringTemplate("Academia", "Smart Fit", "Academia", "cat-system-005", "DESPESA", 8, 9990, 14990)
+    );
+
+    private static final List<String[]> CUSTOM_CATEGORIES = List.of(
+        new String[] {"Pets", "Ração e veterinário", "#f59e0b", "Dog"},
+        new String[] {"Presentes", "Presentes e datas especiais", "#ec4899", "Gift"},
+        new String[] {"Viagens", "Passagens e hospedagem", "#0ea5e9", "Airplane"}
+    );
+
+    private static final String[] PAYMENT_METHOD_TYPES = {"CARTAO_CREDITO", "PIX", "CARTAO_DEBITO", "DINHEIRO"};
+    private static final String[] PAYMENT_METHOD_NAMES = {"Cartão de Crédito", "PIX", "Cartão de Débito", "Dinheiro"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MonthlyRollupService monthlyRollupService;
+
+    public SyntheticDataSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               EntityManagerFactory entityManagerFactory, MonthlyRollupService monthlyRollupService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.monthlyRollupService = monthlyRollupService;
+    }
+
+    /**
+     * Id determinístico do i-ésimo usuário sintético para a semente informada
+     */
+    public static String userId(long seed, int index) {
+        return UUID.nameUUIDFromBytes(("synthetic-user-" + seed + "-" + index).getBytes()).toString();
+    }
+
+    /**
+     * Verifica se a massa da semente informada já foi carregada
+     */
+    public boolean isSeeded(long seed) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId(seed, 0));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Gera e insere a massa de dados conforme o plano
+     */
+    public SeedResult seed(SeedPlan plan) {
+        long start = System.currentTimeMillis();
+        LocalDate anchor = plan.anchorDate();
+        Timestamp now = Timestamp.valueOf(anchor.atStartOfDay());
+
+        List<String> userIds = new ArrayList<>(plan.users());
+        List<Object[]> userRows = new ArrayList<>(plan.users());
+        for (int i = 0; i < plan.users(); i++) {
+            String userId = userId(plan.seed(), i);
+            userIds.add(userId);
+            userRows.add(new Object[] {userId, "Usuário Sintético " + i, "user" + i + "." + plan.seed() + EMAIL_DOMAIN, PASSWORD_HASH, now, now});
+        }
+        for (int from = 0; from < userRows.size(); from += plan.batchSize()) {
+            jdbcTemplate.batchUpdate(INSERT_USER, userRows.subList(from, Math.min(from + plan.batchSize(), userRows.size())));
+        }
+
+        AtomicLong transactions = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(plan.threads());
+        try {
+            List<Future<?>> futures = new ArrayList<>(plan.users());
+            for (int i = 0; i < plan.users(); i++) {
+                int index = i;
+                // Um commit por usuário: evita o commit implícito a cada statement do batch
+                futures.add(executor.submit(() -> transactions.addAndGet(
+                    transactionTemplate.execute(status -> {
+                        long inserted = seedUser(plan, index, userIds.get(index), anchor, now);
+                        monthlyRollupService.rebuildForUser(userIds.get(index));
+                        return inserted;
+                    }))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração de dados sintéticos interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na geração de dados sintéticos", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+        return new SeedResult(userIds, transactions.get(), System.currentTimeMillis() - start);
+    }
+
+    private long seedUser(SeedPlan plan, int index, String userId, LocalDate anchor, Timestamp now) {
+        Random random = new Random(plan.seed() * 31 + index);
+        String prefix = String.format("syn-%d-%d", plan.seed(), index);
+
+        // Categorias próprias (0 a 3)
+        List<String> customCategories = new ArrayList<>();
+        List<Object[]> categoryRows = new ArrayList<>();
+        int customCount = random.nextInt(CUSTOM_CATEGORIES.size() + 1);
+        for (int c = 0; c < customCount; c++) {
+            String[] template = CUSTOM_CATEGORIES.get(c);
+            String categoryId = prefix + "-cat-" + c;
+            customCategories.add(categoryId);
+            categoryRows.add(new Object[] {categoryId, userId, template[0], template[1], template[2], template[3], now, now});
+        }
+        if (!categoryRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY, categoryRows);
+        }
+
+        // Métodos de pagamento (2 a 4), o primeiro é o padrão
+        List<String> paymentMethods = new ArrayList<>();
+        List<Object[]> paymentMethodRows = new ArrayList<>();
+        int paymentMethodCount = 2 + random.nextInt(PAYMENT_METHOD_TYPES.length - 1);
+        for (int p = 0; p < paymentMethodCount; p++) {
+            String paymentMethodId = prefix + "-pm-" + p;
+            String lastDigits = PAYMENT_METHOD_TYPES[p].startsWith("CARTAO") ? String.format("%04d", random.nextInt(10000)) : null;
+            paymentMethods.add(paymentMethodId);
+            paymentMethodRows.add(new Object[] {paymentMethodId, userId, PAYMENT_METHOD_TYPES[p], PAYMENT_METHOD_NAMES[p],
+                lastDigits, p == 0, now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_METHOD, paymentMethodRows);
+
+        // Estabelecimentos favoritos variam por usuário; a distribuição enviesada concentra os gastos nos primeiros
+        List<Merchant> merchants = new ArrayList<>(MERCHANTS);
+        Collections.shuffle(merchants, random);
+
+        LocalDate firstDay = anchor.minusYears(plan.years()).plusDays(1);
+        int historyDays = (int) (anchor.toEpochDay() - firstDay.toEpochDay()) + 1;
+        List<TransactionRow> batch = new ArrayList<>(plan.batchSize());
+        int sequence = 0;
+
+        // Grupos recorrentes: salário e aluguel sempre, assinaturas conforme o usuário
+        int recurringBudget = plan.transactionsPerUser() / 3;
+        for (int r = 0; r < RECURRING.size() && recurringBudget > 0; r++) {
+            if (r >= 2 && random.nextBoolean()) {
+                continue;
+            }
+            RecurringTemplate template = RECURRING.get(r);
+            String groupId = prefix + "-rec-" + r;
+            BigDecimal amount = cents(template.minCents() + random.nextInt(template.maxCents() - template.minCents()));
+            for (LocalDate month = anchor.withDayOfMonth(1); !month.isBefore(firstDay.withDayOfMonth(1)) && recurringBudget > 0;
+                 month = month.minusMonths(1)) {
+                LocalDate date = month.withDayOfMonth(Math.min(template.dayOfMonth(), month.lengthOfMonth()));
+                if (date.isAfter(anchor) || date.isBefore(firstDay)) {
+                    continue;
+                }
+                batch.add(new TransactionRow(prefix + "-tx-" + sequence++, userId, template.categoryId(), paymentMethods.get(0),
+                    template.type(), amount, "BRL", template.description(), date, template.merchantName(),
+                    template.merchantCategory(), status(random, date, anchor), true, groupId));
+                recurringBudget--;
+                flushIfFull(batch, plan.batchSize());
+            }
+        }
+
+        // Transações avulsas
+        while (sequence < plan.transactionsPerUser()) {
+            LocalDate date = firstDay.plusDays(random.nextInt(historyDays));
+            String paymentMethodId = paymentMethods.get(random.nextInt(paymentMethods.size()));
+
+            if (!customCategories.isEmpty() && random.nextInt(20) == 0) {
+                batch.add(new TransactionRow(prefix + "-tx-" + sequence++, userId,
+                    customCategories.get(random.nextInt(customCategories.size())), paymentMethodId, "DESPESA",
+                    cents(2000 + random.nextInt(48000)), currency(random), "Gasto diverso", date, null, null,
+                    status(random, date, anchor), false, null));
+            } else {
+                Merchant merchant = merchants.get((int) (merchants.size() * Math.pow(random.nextDouble(), MERCHANT_SKEW)));
+                batch.add(new TransactionRow(prefix + "-tx-" + sequence++, userId, merchant.categoryId(), paymentMethodId,
+                    merchant.type(), cents(merchant.minCents() + random.nextInt(merchant.maxCents() - merchant.minCents())),
+                    currency(random), merchant.name(), date, merchant.name(), merchant.merchantCategory(),
+                    status(random, date, anchor), false, null));
+            }
+            flushIfFull(batch, plan.batchSize());
+        }
+        flush(batch, plan.batchSize());
+
+        return sequence;
+    }
+
+    /**
+     * 93% confirmadas, 2% canceladas; pendentes apenas nos últimos 7 dias
+     */
+    private String status(Random random, LocalDate date, LocalDate anchor) {
+        int roll = random.nextInt(100);
+        if (roll < 2) {
+            return "CANCELADA";
+        }
+        if (roll < 7 && date.isAfter(anchor.minusDays(7))) {
+            return "PENDENTE";
+        }
+        return "CONFIRMADA";
+    }
+
+    private String currency(Random random) {
+        int roll = random.nextInt(100);
+        return roll < 97 ? "BRL" : roll < 99 ? "USD" : "EUR";
+    }
+
+    private BigDecimal cents(long value) {
+        return BigDecimal.valueOf(value, 2);
+    }
+
+    private void flushIfFull(List<TransactionRow> batch, int batchSize) {
+        if (batch.size() >= batchSize) {
+            flush(batch, batchSize);
+        }
+    }
+
+    private void flush(List<TransactionRow> batch, int batchSize) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, batch, batchSize, this::setTransaction);
+        batch.clear();
+    }
+
+    private void setTransaction(PreparedStatement ps, TransactionRow row) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(row.date().atTime(LocalTime.NOON));
+        ps.setString(1, row.id());
+        ps.setString(2, row.userId());
+        ps.setString(3, row.categoryId());
+        ps.setString(4, row.paymentMethodId());
+        ps.setString(5, row.type());
+        ps.setBigDecimal(6, row.amount());
+        ps.setString(7, row.currency());
+        ps.setString(8, row.description());
+        ps.setDate(9, Date.valueOf(row.date()));
+        if (row.merchantName() != null) {
+            ps.setString(10, row.merchantName());
+            ps.setString(11, row.merchantCategory());
+        } else {
+            ps.setNull(10, Types.VARCHAR);
+            ps.setNull(11, Types.VARCHAR);
+        }
+        ps.setString(12, row.status());
+        ps.setBoolean(13, row.recurring());
+        if (row.recurringGroupId() != null) {
+            ps.setString(14, row.recurringGroupId());
+        } else {
+            ps.setNull(14, Types.VARCHAR);
+        }
+        ps.setString(15, row.date().format(MONTH_YEAR_FORMATTER));
+        ps.setTimestamp(16, createdAt);
+        ps.setTimestamp(17, createdAt);
+    }
+
+    /**
+     * Parâmetros da geração: quantidade de usuários, transações por usuário, anos de histórico,
+     * semente, threads de geração, tamanho do batch JDBC e data de referência (último dia do histórico)
+     */
+    public record SeedPlan(int users, int transactionsPerUser, int years, long seed, int threads, int batchSize,
+                           LocalDate anchorDate) {
+
+        public SeedPlan {
+            if (users < 0 || transactionsPerUser < 0 || years < 1 || threads < 1 || batchSize < 1 || anchorDate == null) {
+                throw new IllegalArgumentException("Plano de geração inválido");
+            }
+        }
+
+        /**
+         * Plano com a data de hoje como referência
+         */
+        public SeedPlan(int users, int transactionsPerUser, int years, long seed, int threads, int batchSize) {
+            this(users, transactionsPerUser, years, seed, threads, batchSize, LocalDate.now());
+        }
+    }
+
+    /**
+     * Resultado da geração
+     */
+    public record SeedResult(List<String> userIds, long transactions, long elapsedMillis) {
+    }
+
+    private record Merchant(String name, String merchantCategory, String categoryId, int minCents, int maxCents, String type) {
+
+        Merchant(String name, String merchantCategory, String categoryId, int minCents, int maxCents) {
+            this(name, merchantCategory, categoryId, minCents, maxCents, "DESPESA");
+        }
+    }
+
+    private record RecurringTemplate(String description, String merchantName, String merchantCategory, String categoryId,
+                                     String type, int dayOfMonth, int minCents, int maxCents) {
+    }
+
+    private record TransactionRow(String id, String userId, String categoryId, String paymentMethodId, String type,
+                                  BigDecimal amount, String currency, String description, LocalDate date,
+                                  String merchantName, String merchantCategory, String status, boolean recurring,
+                                  String recurringGroupId) {
+    }
+}
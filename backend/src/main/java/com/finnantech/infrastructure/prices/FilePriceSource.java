@@ -0,0 +1,64 @@
+package com.finnantech.infrastructure.prices;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fonte de cotações lida de um arquivo local (investments.prices.file)
+ * Uma cotação por linha no formato SYMBOL;PRECO ou SYMBOL,PRECO (ponto decimal);
+ * linhas vazias e iniciadas por # são ignoradas
+ */
+@Component
+@ConditionalOnProperty(name = "investments.prices.file")
+public class FilePriceSource implements PriceSource {
+
+    private final Path file;
+
+    public FilePriceSource(@Value("${investments.prices.file}") String file) {
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public List<PriceQuote> fetch(Collection<String> symbols) throws IOException {
+        Set<String> wanted = new HashSet<>(symbols);
+        List<PriceQuote> quotes = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf(';') >= 0 ? line.indexOf(';') : line.indexOf(',');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Linha " + lineNumber + " do arquivo de cotações inválida: " + line);
+                }
+                PriceQuote quote;
+                try {
+                    quote = new PriceQuote(line.substring(0, separator), new BigDecimal(line.substring(separator + 1).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Linha " + lineNumber + " do arquivo de cotações inválida: " + line);
+                }
+                if (wanted.contains(quote.symbol())) {
+                    quotes.add(quote);
+                }
+            }
+        }
+        return quotes;
+    }
+}
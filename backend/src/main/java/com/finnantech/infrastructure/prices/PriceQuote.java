@@ -0,0 +1,19 @@
+package com.finnantech.infrastructure.prices;
+
+import java.math.BigDecimal;
+
+/**
+ * Cotação unitária de um ativo (symbol em maiúsculas)
+ */
+public record PriceQuote(String symbol, BigDecimal price) {
+
+    public PriceQuote {
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("Cotação sem símbolo");
+        }
+        if (price == null || price.signum() < 0) {
+            throw new IllegalArgumentException("Preço inválido para " + symbol + ": " + price);
+        }
+        symbol = symbol.trim().toUpperCase();
+    }
+}
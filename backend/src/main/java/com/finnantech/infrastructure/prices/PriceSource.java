@@ -0,0 +1,14 @@
+package com.finnantech.infrastructure.prices;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fonte de cotações usada na reavaliação das carteiras
+ * Implementações retornam apenas os símbolos que conhecem; os demais ficam com a última cotação
+ */
+public interface PriceSource {
+
+    List<PriceQuote> fetch(Collection<String> symbols) throws IOException;
+}
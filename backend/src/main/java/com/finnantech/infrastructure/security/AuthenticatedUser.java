@@ -0,0 +1,31 @@
+package com.finnantech.infrastructure.security;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Principal autenticado via JWT
+ * Construído a partir dos claims do token (userId, name, provider), sem consulta ao banco
+ * getName() segue a convenção do Spring Security e retorna o email (subject do token)
+ */
+public record AuthenticatedUser(String userId, String email, String name, String provider) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Principal da requisição atual, estabelecido pelo JwtAuthenticationFilter
+     */
+    public static Optional<AuthenticatedUser> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+}
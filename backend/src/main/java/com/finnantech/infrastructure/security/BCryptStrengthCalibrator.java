@@ -0,0 +1,49 @@
+package com.finnantech.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Escolhe o custo do BCrypt na inicialização a partir de uma latência alvo
+ * Mede o custo mínimo nesta máquina e sobe enquanto a estimativa (cada ponto dobra o tempo)
+ * couber no alvo; hashes gravados com outro custo continuam válidos, pois o custo vai no próprio hash
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE_PASSWORD); // aquecimento
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long baseNanos = samples[SAMPLES / 2];
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseNanos << (strength + 1 - minStrength) <= targetLatency.toNanos()) {
+            strength++;
+        }
+        long estimatedMillis = Duration.ofNanos(baseNanos << (strength - minStrength)).toMillis();
+        if (strength == minStrength && baseNanos > targetLatency.toNanos()) {
+            log.warn("BCrypt com custo mínimo {} leva {} ms, acima do alvo de {} ms", minStrength, estimatedMillis, targetLatency.toMillis());
+        } else {
+            log.info("BCrypt calibrado: custo {} (~{} ms por hash, alvo {} ms)", strength, estimatedMillis, targetLatency.toMillis());
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,20 @@
+package com.finnantech.infrastructure.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+/**
+ * Injeta nos controllers o usuário autenticado pelo JwtAuthenticationFilter
+ * Aceita parâmetros do tipo String (userId) ou AuthenticatedUser
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Parameter(hidden = true)
+public @interface CurrentUser {
+}
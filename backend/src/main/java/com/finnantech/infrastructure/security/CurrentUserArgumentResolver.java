@@ -0,0 +1,35 @@
+package com.finnantech.infrastructure.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolve parâmetros anotados com @CurrentUser a partir do principal já presente no
+ * SecurityContext, sem reler o header Authorization nem verificar o token novamente
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+            && (String.class.equals(type) || AuthenticatedUser.class.equals(type));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        AuthenticatedUser user = AuthenticatedUser.current()
+            .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Usuário não autenticado"));
+
+        return String.class.equals(parameter.getParameterType()) ? user.userId() : user;
+    }
+}
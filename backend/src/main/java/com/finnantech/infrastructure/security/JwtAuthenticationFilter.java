@@ -1,35 +1,47 @@
 package com.finnantech.infrastructure.security;
 
-import com.finnantech.domain.entities.User;
 import com.finnantech.domain.ports.UserRepositoryPort;
 import com.finnantech.domain.valueobjects.Email;
 import com.finnantech.infrastructure.services.JwtServiceAdapter;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Filtro JWT para autenticação de requisições
+ * No modo stateless (padrão) o token é verificado uma única vez e o principal é montado
+ * a partir dos claims, sem consulta ao banco além do cache de existência do usuário
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    
     private final JwtServiceAdapter jwtService;
     private final UserRepositoryPort userRepository;
+    private final UserExistenceCache userExistenceCache;
+    
+    @Value("${jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
     
-    public JwtAuthenticationFilter(JwtServiceAdapter jwtService, UserRepositoryPort userRepository) {
+    public JwtAuthenticationFilter(JwtServiceAdapter jwtService, UserRepositoryPort userRepository,
+                                   UserExistenceCache userExistenceCache) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.userExistenceCache = userExistenceCache;
     }
     
     @Override
@@ -39,7 +51,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         
         // Verificar se o header Authorization existe e começa com "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -51,34 +62,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            userEmail = jwtService.extractEmail(jwt);
-            
-            // Se temos um email e não há autenticação no contexto
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Se não há autenticação no contexto
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                
+                // Verificar assinatura e expiração uma única vez
+                Claims claims = jwtService.extractAllClaims(jwt);
                 
-                // Buscar usuário no banco
-                Optional<User> userOpt = userRepository.findByEmail(Email.of(userEmail));
+                Optional<AuthenticatedUser> principal = statelessAuthentication
+                        ? authenticateFromClaims(claims)
+                        : authenticateFromDatabase(claims);
                 
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
+                if (principal.isPresent()) {
+                    // Criar token de autenticação
+                    UsernamePasswordAuthenticationToken authToken = 
+                        new UsernamePasswordAuthenticationToken(
+                            principal.get(), 
+                            null, 
+                            USER_AUTHORITIES
+                        );
                     
-                    // Verificar se o token é válido
-                    if (jwtService.isTokenValid(jwt, userEmail)) {
-                        
-                        // Criar UserDetails para Spring Security
-                        UserDetails userDetails = createUserDetails(user);
-                        
-                        // Criar token de autenticação
-                        UsernamePasswordAuthenticationToken authToken = 
-                            new UsernamePasswordAuthenticationToken(
-                                userDetails, 
-                                null, 
-                                userDetails.getAuthorities()
-                            );
-                        
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             }
         } catch (Exception e) {
@@ -89,11 +93,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
-    private UserDetails createUserDetails(User user) {
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail().getValue())
-                .password("") // Não precisamos da senha aqui
-                .authorities("ROLE_USER")
-                .build();
+    /**
+     * Monta o principal a partir dos claims gerados por JwtServiceAdapter.generateToken
+     * Tokens sem userId (formato antigo) caem na busca pelo banco
+     */
+    private Optional<AuthenticatedUser> authenticateFromClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null) {
+            return authenticateFromDatabase(claims);
+        }
+        
+        if (!userExistenceCache.exists(userId)) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(new AuthenticatedUser(
+                userId,
+                claims.getSubject(),
+                claims.get("name", String.class),
+                claims.get("provider", String.class)));
+    }
+    
+    /**
+     * Monta o principal buscando o usuário no banco pelo email do token
+     */
+    private Optional<AuthenticatedUser> authenticateFromDatabase(Claims claims) {
+        String userEmail = claims.getSubject();
+        if (userEmail == null) {
+            return Optional.empty();
+        }
+        
+        return userRepository.findByEmail(Email.of(userEmail))
+                .map(user -> new AuthenticatedUser(
+                        user.getId().getValue(),
+                        user.getEmail().getValue(),
+                        user.getName(),
+                        user.getProvider().toString()));
     }
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.finnantech.infrastructure.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -15,9 +16,12 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Configuração de segurança do Spring Security
  */
@@ -45,6 +49,9 @@ public class SecurityConfig {
                 
                 // Configurar autorização de requests
                 .authorizeHttpRequests(auth -> auth
+                        // Dispatch assíncrono de respostas em streaming: a requisição original já foi autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        
                         // Permitir acesso público
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/oauth2/**").permitAll()
@@ -118,8 +125,13 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * BCrypt com custo calibrado para password.bcrypt.target-latency nesta máquina
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.target-latency:PT0.1S}") Duration targetLatency,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        return new BCryptPasswordEncoder(BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.finnantech.infrastructure.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.finnantech.domain.ports.UserRepositoryPort;
+import com.finnantech.domain.valueobjects.UserId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache de curta duração da existência de usuários
+ * Permite revogar tokens de usuários removidos sem consultar o banco a cada requisição:
+ * a remoção passa a valer em no máximo um TTL
+ */
+@Component
+public class UserExistenceCache {
+
+    private final UserRepositoryPort userRepository;
+    private final boolean enabled;
+    private final Cache<String, Boolean> cache;
+
+    public UserExistenceCache(UserRepositoryPort userRepository,
+                              @Value("${jwt.user-existence-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.user-existence-cache.ttl:60s}") Duration ttl,
+                              @Value("${jwt.user-existence-cache.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * Verifica se o usuário existe (sempre verdadeiro quando a checagem está desabilitada)
+     */
+    public boolean exists(String userId) {
+        if (!enabled) {
+            return true;
+        }
+        return cache.get(userId, id -> userRepository.existsById(UserId.of(id)));
+    }
+}
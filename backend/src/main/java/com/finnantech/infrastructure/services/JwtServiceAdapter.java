@@ -2,10 +2,15 @@ package com.finnantech.infrastructure.services;
 
 import com.finnantech.domain.entities.User;
 import com.finnantech.domain.ports.JwtServicePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -13,10 +18,13 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Adapter que implementa JwtServicePort usando JJWT
+ * A chave e o parser são construídos uma única vez; tokens já verificados ficam em um
+ * cache limitado até o seu exp, evitando refazer o HMAC a cada requisição
  */
 @Service
 public class JwtServiceAdapter implements JwtServicePort {
@@ -27,8 +35,23 @@ public class JwtServiceAdapter implements JwtServicePort {
     @Value("${jwt.expiration}")
     private Long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+    
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
+    
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
     }
     
     @Override
@@ -51,7 +74,7 @@ public class JwtServiceAdapter implements JwtServicePort {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -69,12 +92,16 @@ public class JwtServiceAdapter implements JwtServicePort {
         return claimsResolver.apply(claims);
     }
     
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifica assinatura e expiração e retorna todos os claims em uma única passada
+     * Tokens já verificados são servidos do cache até expirarem
+     */
+    public Claims extractAllClaims(String token) {
+        return claimsCache.get(token, this::parseClaims);
+    }
+    
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
     
     @Override
@@ -91,4 +118,30 @@ public class JwtServiceAdapter implements JwtServicePort {
     private Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
+    
+    /**
+     * Mantém os claims no cache apenas até o exp do token
+     */
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return 0;
+            }
+            long remainingMillis = exp.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+        
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 } 
\ No newline at end of file
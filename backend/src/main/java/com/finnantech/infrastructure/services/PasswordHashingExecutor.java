@@ -0,0 +1,99 @@
+package com.finnantech.infrastructure.services;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.finnantech.application.exceptions.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool dedicado ao BCrypt (bulkhead)
+ * Limita o hashing a password.hashing.threads núcleos (padrão: número de CPUs) e a uma fila curta;
+ * com a fila cheia a requisição é recusada na hora com ServiceOverloadedException (503), em vez de
+ * ocupar mais threads do Tomcat e tirar CPU dos demais endpoints durante rajadas de login
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Timer latency;
+    private final Timer wait;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(@Value("${password.hashing.threads:0}") int threads,
+                                   @Value("${password.hashing.queue-capacity:16}") int queueCapacity,
+                                   @Value("${password.hashing.max-wait:PT5S}") Duration maxWait,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.maxWait = maxWait;
+
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.latency = Timer.builder("password.hashing.latency").description("Tempo de CPU de cada hash/verificação").register(meterRegistry);
+        this.wait = Timer.builder("password.hashing.wait").description("Tempo total na requisição, incluindo a fila").register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Executa a operação no pool e espera o resultado por até password.hashing.max-wait
+     */
+    public <T> T execute(Supplier<T> operation) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> latency.record(operation));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Serviço de autenticação sobrecarregado, tente novamente em instantes");
+        }
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new ServiceOverloadedException("Serviço de autenticação sobrecarregado, tente novamente em instantes");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new ServiceOverloadedException("Operação de senha interrompida", e);
+        } finally {
+            wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.finnantech.infrastructure.services;
 
 import com.finnantech.domain.ports.PasswordServicePort;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -10,15 +9,18 @@ import java.util.Random;
 
 /**
  * Adapter que implementa PasswordServicePort usando BCrypt
+ * Hash e verificação rodam no PasswordHashingExecutor, fora da CPU das threads do Tomcat
  */
 @Service
 public class PasswordServiceAdapter implements PasswordServicePort {
     
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
     private final Random random;
     
-    public PasswordServiceAdapter(PasswordEncoder passwordEncoder) {
+    public PasswordServiceAdapter(PasswordEncoder passwordEncoder, PasswordHashingExecutor hashingExecutor) {
         this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
         this.random = new SecureRandom();
     }
     
@@ -27,7 +29,7 @@ public class PasswordServiceAdapter implements PasswordServicePort {
         if (rawPassword == null || rawPassword.isEmpty()) {
             throw new IllegalArgumentException("Senha não pode ser nula ou vazia");
         }
-        return passwordEncoder.encode(rawPassword);
+        return hashingExecutor.execute(() -> passwordEncoder.encode(rawPassword));
     }
     
     @Override
@@ -35,7 +37,7 @@ public class PasswordServiceAdapter implements PasswordServicePort {
         if (rawPassword == null || hashedPassword == null) {
             return false;
         }
-        return passwordEncoder.matches(rawPassword, hashedPassword);
+        return hashingExecutor.execute(() -> passwordEncoder.matches(rawPassword, hashedPassword));
     }
     
     @Override
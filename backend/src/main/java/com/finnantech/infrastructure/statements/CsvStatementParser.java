@@ -0,0 +1,172 @@
+package com.finnantech.infrastructure.statements;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Leitor de extratos CSV com cabeçalho, separados por vírgula ou ponto e vírgula
+ * Colunas reconhecidas (sem acento e sem diferenciar maiúsculas):
+ * data/date, descricao/historico/description, valor/amount e, opcionais, id/external_id/fitid,
+ * tipo/type (RECEITA/DESPESA, C/D) e moeda/currency
+ * Sem coluna de tipo, o sinal do valor define se é receita ou despesa
+ */
+public class CsvStatementParser implements StatementParser {
+
+    private static final Set<String> DATE_COLUMNS = Set.of("data", "date", "transaction_date", "dt");
+    private static final Set<String> DESCRIPTION_COLUMNS = Set.of("descricao", "description", "historico", "name", "lancamento");
+    private static final Set<String> AMOUNT_COLUMNS = Set.of("valor", "amount", "value");
+    private static final Set<String> ID_COLUMNS = Set.of("id", "external_id", "externalid", "fitid", "identificador");
+    private static final Set<String> TYPE_COLUMNS = Set.of("tipo", "type");
+    private static final Set<String> MEMO_COLUMNS = Set.of("memo", "observacao", "notes");
+    private static final Set<String> CURRENCY_COLUMNS = Set.of("moeda", "currency");
+
+    @Override
+    public void parse(Reader source, Consumer<StatementEntry> consumer) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        char delimiter = count(headerLine, ';') > count(headerLine, ',') ? ';' : ',';
+        Map<String, Integer> columns = columns(splitRecord(headerLine, reader, delimiter));
+
+        Integer date = find(columns, DATE_COLUMNS);
+        Integer description = find(columns, DESCRIPTION_COLUMNS);
+        Integer amount = find(columns, AMOUNT_COLUMNS);
+        if (date == null || description == null || amount == null) {
+            throw new IllegalArgumentException("CSV deve ter colunas de data, descrição e valor");
+        }
+        Integer id = find(columns, ID_COLUMNS);
+        Integer type = find(columns, TYPE_COLUMNS);
+        Integer memo = find(columns, MEMO_COLUMNS);
+        Integer currency = find(columns, CURRENCY_COLUMNS);
+
+        int lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitRecord(line, reader, delimiter);
+            try {
+                BigDecimal value = StatementValues.parseAmount(field(fields, amount));
+                if (type != null) {
+                    value = applyType(value, field(fields, type));
+                }
+                consumer.accept(new StatementEntry(
+                    emptyToNull(field(fields, id)),
+                    StatementValues.parseDate(field(fields, date)),
+                    value,
+                    field(fields, description),
+                    emptyToNull(field(fields, memo)),
+                    emptyToNull(field(fields, currency))
+                ));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Linha " + lineNumber + " do CSV: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Divide um registro respeitando aspas; um campo entre aspas pode continuar nas linhas seguintes
+     */
+    private List<String> splitRecord(String line, BufferedReader reader, char delimiter) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        String current = line;
+        int i = 0;
+        while (true) {
+            if (i == current.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new IllegalArgumentException("Aspas não fechadas no CSV");
+                }
+                field.append('\n');
+                current = next;
+                i = 0;
+                continue;
+            }
+            char c = current.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < current.length() && current.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private BigDecimal applyType(BigDecimal value, String type) {
+        String normalized = normalize(type);
+        return switch (normalized) {
+            case "despesa", "debito", "debit", "d" -> value.abs().negate();
+            case "receita", "credito", "credit", "c" -> value.abs();
+            case "" -> value;
+            default -> throw new IllegalArgumentException("Tipo inválido: " + type);
+        };
+    }
+
+    private Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalize(header.get(i)).replace(' ', '_'), i);
+        }
+        return columns;
+    }
+
+    private Integer find(Map<String, Integer> columns, Set<String> aliases) {
+        for (String alias : aliases) {
+            Integer index = columns.get(alias);
+            if (index != null) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private String field(List<String> fields, Integer index) {
+        return index != null && index < fields.size() ? fields.get(index) : "";
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "").trim().toLowerCase();
+    }
+
+    private int count(String value, char c) {
+        return (int) value.chars().filter(ch -> ch == c).count();
+    }
+}
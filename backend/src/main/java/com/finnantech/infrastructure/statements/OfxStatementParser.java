@@ -0,0 +1,100 @@
+package com.finnantech.infrastructure.statements;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Leitor de OFX 1.x (SGML, tags sem fechamento) e 2.x (XML)
+ * Percorre o arquivo tag a tag e emite um lançamento a cada bloco STMTTRN
+ */
+public class OfxStatementParser implements StatementParser {
+
+    private static final String TRANSACTION_TAG = "STMTTRN";
+
+    @Override
+    public void parse(Reader source, Consumer<StatementEntry> consumer) throws IOException {
+        Reader reader = source instanceof BufferedReader ? source : new BufferedReader(source);
+        StringBuilder text = new StringBuilder();
+        Map<String, String> transaction = null;
+        String currentTag = null;
+        String currency = null;
+        int transactions = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c != '<') {
+                text.append((char) c);
+                continue;
+            }
+
+            String value = decode(text.toString().trim());
+            text.setLength(0);
+            if (!value.isEmpty() && currentTag != null) {
+                if (transaction != null) {
+                    transaction.put(currentTag, value);
+                } else if (currentTag.equals("CURDEF")) {
+                    currency = value;
+                }
+            }
+
+            String tag = readTag(reader);
+            if (tag.startsWith("/")) {
+                if (tag.substring(1).equals(TRANSACTION_TAG) && transaction != null) {
+                    consumer.accept(toEntry(transaction, currency, ++transactions));
+                    transaction = null;
+                }
+                currentTag = null;
+            } else if (tag.equals(TRANSACTION_TAG)) {
+                transaction = new HashMap<>();
+                currentTag = null;
+            } else {
+                currentTag = tag;
+            }
+        }
+    }
+
+    private String readTag(Reader reader) throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        String name = tag.toString().trim();
+        int space = name.indexOf(' ');
+        return (space > 0 ? name.substring(0, space) : name).toUpperCase();
+    }
+
+    private StatementEntry toEntry(Map<String, String> transaction, String currency, int position) {
+        String posted = transaction.get("DTPOSTED");
+        String amount = transaction.get("TRNAMT");
+        if (posted == null || amount == null) {
+            throw new IllegalArgumentException("Lançamento " + position + " do OFX sem DTPOSTED ou TRNAMT");
+        }
+        String name = transaction.get("NAME");
+        String memo = transaction.get("MEMO");
+        try {
+            return new StatementEntry(
+                transaction.get("FITID"),
+                StatementValues.parseDate(posted),
+                StatementValues.parseAmount(amount),
+                name != null ? name : memo,
+                name != null ? memo : null,
+                currency
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Lançamento " + position + " do OFX: " + e.getMessage());
+        }
+    }
+
+    private String decode(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+            .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
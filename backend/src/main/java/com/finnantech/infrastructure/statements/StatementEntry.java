@@ -0,0 +1,18 @@
+package com.finnantech.infrastructure.statements;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Lançamento lido de um extrato bancário
+ * amount vem com sinal: negativo para débitos, positivo para créditos
+ */
+public record StatementEntry(
+    String externalId,
+    LocalDate date,
+    BigDecimal amount,
+    String description,
+    String memo,
+    String currency
+) {
+}
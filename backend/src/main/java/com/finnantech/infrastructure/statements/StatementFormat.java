@@ -0,0 +1,34 @@
+package com.finnantech.infrastructure.statements;
+
+/**
+ * Formatos de extrato suportados na importação
+ */
+public enum StatementFormat {
+    OFX,
+    CSV;
+
+    public StatementParser parser() {
+        return this == OFX ? new OfxStatementParser() : new CsvStatementParser();
+    }
+
+    /**
+     * Resolve o formato pelo parâmetro informado ou, na ausência dele, pela extensão do arquivo
+     */
+    public static StatementFormat resolve(String format, String fileName) {
+        String value = format;
+        if ((value == null || value.isBlank()) && fileName != null && fileName.contains(".")) {
+            value = fileName.substring(fileName.lastIndexOf('.') + 1);
+            if (value.equalsIgnoreCase("qfx")) {
+                value = "OFX";
+            }
+        }
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Informe o formato do extrato (ofx ou csv)");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de extrato inválido: " + value);
+        }
+    }
+}
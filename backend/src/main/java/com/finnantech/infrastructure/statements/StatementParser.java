@@ -0,0 +1,15 @@
+package com.finnantech.infrastructure.statements;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Leitor incremental de extratos: cada lançamento é entregue ao consumidor assim que lido,
+ * sem carregar o arquivo inteiro em memória
+ * Erros de formato são reportados como IllegalArgumentException
+ */
+public interface StatementParser {
+
+    void parse(Reader reader, Consumer<StatementEntry> consumer) throws IOException;
+}
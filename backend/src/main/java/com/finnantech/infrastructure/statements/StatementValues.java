@@ -0,0 +1,64 @@
+package com.finnantech.infrastructure.statements;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Conversões de valores textuais comuns aos extratos (datas e valores monetários)
+ */
+final class StatementValues {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+        DateTimeFormatter.BASIC_ISO_DATE
+    );
+
+    private StatementValues() {
+    }
+
+    /**
+     * Aceita yyyy-MM-dd, dd/MM/yyyy e yyyyMMdd (OFX usa yyyyMMdd seguido de hora e fuso, ignorados)
+     */
+    static LocalDate parseDate(String value) {
+        String text = value.trim();
+        if (text.length() >= 8 && text.chars().limit(8).allMatch(Character::isDigit)) {
+            text = text.substring(0, 8);
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException e) {
+                // tenta o próximo formato
+            }
+        }
+        throw new IllegalArgumentException("Data inválida: " + value);
+    }
+
+    /**
+     * Aceita 1234.56, 1234,56, 1.234,56 e 1,234.56; o último separador é o decimal
+     */
+    static BigDecimal parseAmount(String value) {
+        String text = value.trim().replace("R$", "").replace(" ", "");
+        boolean negative = text.startsWith("(") && text.endsWith(")");
+        if (negative) {
+            text = text.substring(1, text.length() - 1);
+        }
+        int lastComma = text.lastIndexOf(',');
+        int lastDot = text.lastIndexOf('.');
+        if (lastComma > lastDot) {
+            text = text.replace(".", "").replace(',', '.');
+        } else if (lastDot > lastComma) {
+            text = text.replace(",", "");
+        }
+        try {
+            BigDecimal amount = new BigDecimal(text);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido: " + value);
+        }
+    }
+}
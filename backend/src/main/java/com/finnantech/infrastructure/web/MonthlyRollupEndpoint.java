@@ -0,0 +1,46 @@
+package com.finnantech.infrastructure.web;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.finnantech.application.services.MonthlyRollupService;
+
+/**
+ * Endpoint administrativo (/actuator/rollups, restrito a ADMIN) para reconstruir os agregados mensais
+ * POST /actuator/rollups reconstrói todos os usuários; POST /actuator/rollups/{userId} apenas um
+ * A reconstrução completa apaga e regrava monthly_rollups: usar em janela sem escritas
+ */
+@Component
+@Endpoint(id = "rollups")
+public class MonthlyRollupEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupEndpoint.class);
+
+    private final MonthlyRollupService monthlyRollupService;
+
+    public MonthlyRollupEndpoint(MonthlyRollupService monthlyRollupService) {
+        this.monthlyRollupService = monthlyRollupService;
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuildAll() {
+        long start = System.currentTimeMillis();
+        int rows = monthlyRollupService.rebuildAll();
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Agregados mensais reconstruídos sob demanda: {} linhas em {} ms", rows, elapsed);
+        return Map.of("rows", rows, "elapsedMillis", elapsed);
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuildForUser(@Selector String userId) {
+        long start = System.currentTimeMillis();
+        int rows = monthlyRollupService.rebuildForUser(userId);
+        return Map.of("userId", userId, "rows", rows, "elapsedMillis", System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,113 @@
+package com.finnantech.infrastructure.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.finnantech.infrastructure.persistence.monitoring.RequestSqlStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Métricas de SQL por requisição, agrupadas pelo método do controller
+ * Publica os histogramas http.server.requests.sql.statements e http.server.requests.sql.time,
+ * avisa no log quando um mesmo formato de statement se repete mais que sql.monitoring.repeat-threshold
+ * vezes (sinal de N+1) e, fora de produção, devolve X-Query-Count na resposta
+ */
+@ControllerAdvice
+public class SqlStatementMetricsAdvice implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsAdvice.class);
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.monitoring.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sql.monitoring.query-count-header:false}")
+    private boolean queryCountHeader;
+
+    @Value("${sql.monitoring.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    public SqlStatementMetricsAdvice(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && handler instanceof HandlerMethod) {
+            RequestSqlStats.start();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (queryCountHeader && stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatements()));
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        RequestSqlStats.clear();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("Statements SQL por requisição")
+            .tag("handler", handlerName)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+            .description("Tempo de execução JDBC por requisição")
+            .tag("handler", handlerName)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        stats.repeatedShapes(repeatThreshold).forEach((sql, count) ->
+            log.warn("Possível N+1 em {}: statement repetido {} vezes na requisição: {}", handlerName, count,
+                sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql));
+    }
+
+    /**
+     * Requisições assíncronas (streaming) liberam a thread do Tomcat sem afterCompletion
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestSqlStats.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package com.finnantech.infrastructure.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca controllers cujos GETs dependem só dos dados do usuário autenticado
+ * As respostas recebem ETag fraca derivada da versão dos dados e If-None-Match é respondido
+ * com 304 antes de chegar ao controller (ver UserDataETagAdvice)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UserDataETag {
+}
@@ -0,0 +1,106 @@
+package com.finnantech.infrastructure.web;
+
+import java.time.LocalDate;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.finnantech.infrastructure.cache.UserDataVersionStore;
+import com.finnantech.infrastructure.security.AuthenticatedUser;
+import com.finnantech.infrastructure.web.dtos.ApiResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * GET condicional para controllers anotados com @UserDataETag
+ * A ETag combina usuário, versão dos dados e data atual (as respostas dependem do mês corrente);
+ * a versão é lida antes do controller, então dados mais novos que a ETag só custam um 200 a mais
+ * A ETag só é enviada em respostas de sucesso sem Cache-Control próprio: quem responde
+ * parcialmente ou com erro não deve ser revalidado com 304
+ */
+@ControllerAdvice(annotations = UserDataETag.class)
+public class UserDataETagAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private static final String ETAG_ATTRIBUTE = UserDataETagAdvice.class.getName() + ".ETAG";
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final UserDataVersionStore versionStore;
+
+    public UserDataETagAdvice(UserDataVersionStore versionStore) {
+        this.versionStore = versionStore;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.getBeanType().isAnnotationPresent(UserDataETag.class)) {
+            return true;
+        }
+        AuthenticatedUser user = AuthenticatedUser.current().orElse(null);
+        if (user == null) {
+            return true;
+        }
+        String etag = "W/\"" + user.userId() + "-" + versionStore.currentVersion(user.userId()) + "-" + LocalDate.now() + "\"";
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ApiResponse<?> apiResponse && apiResponse.isSuccess()
+                && request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletRequest.getServletRequest().getAttribute(ETAG_ATTRIBUTE) instanceof String etag
+                && HttpStatus.valueOf(servletResponse.getServletResponse().getStatus()).is2xxSuccessful()
+                && response.getHeaders().getCacheControl() == null) {
+            response.getHeaders().setETag(etag);
+            response.getHeaders().setCacheControl(CACHE_CONTROL);
+        }
+        return body;
+    }
+
+    /**
+     * Comparação fraca do If-None-Match (lista separada por vírgulas ou *)
+     */
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || (value.startsWith("W/") ? value.substring(2) : value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package com.finnantech.infrastructure.web.controllers;
 
+import com.finnantech.application.exceptions.ServiceOverloadedException;
 import com.finnantech.application.usecases.AuthenticateUserUseCase;
 import com.finnantech.application.usecases.RegisterUserUseCase;
 import com.finnantech.infrastructure.web.dtos.AuthResponse;
@@ -7,6 +8,7 @@ import com.finnantech.infrastructure.web.dtos.LoginRequest;
 import com.finnantech.infrastructure.web.dtos.RegisterRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -42,6 +44,10 @@ public class AuthController {
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(AuthResponse.success(
                     null, response.id(), response.name(), response.email(), response.emailVerified(), "Cadastro realizado com sucesso!"));
+        } catch (ServiceOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(AuthResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(AuthResponse.error(e.getMessage()));
         }
@@ -56,6 +62,10 @@ public class AuthController {
             );
             return ResponseEntity.ok(AuthResponse.success(
                     response.token(), response.userId(), response.name(), response.email(), response.emailVerified(), "Login realizado com sucesso!"));
+        } catch (ServiceOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(AuthResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(AuthResponse.error(e.getMessage()));
         }
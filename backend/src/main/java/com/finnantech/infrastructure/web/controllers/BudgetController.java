@@ -0,0 +1,134 @@
+package com.finnantech.infrastructure.web.controllers;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.finnantech.application.services.BudgetService;
+import com.finnantech.infrastructure.security.CurrentUser;
+import com.finnantech.infrastructure.web.dtos.ApiResponse;
+import com.finnantech.infrastructure.web.dtos.BudgetCreateRequest;
+import com.finnantech.infrastructure.web.dtos.BudgetResponse;
+import com.finnantech.infrastructure.web.dtos.BudgetUpdateRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controller REST para orçamentos mensais por categoria
+ */
+@RestController
+@RequestMapping("/v1/budgets")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
+@Tag(name = "Budgets", description = "Endpoints para orçamentos mensais por categoria")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BudgetController {
+
+    private final BudgetService budgetService;
+
+    @Autowired
+    public BudgetController(BudgetService budgetService) {
+        this.budgetService = budgetService;
+    }
+
+    /**
+     * Lista os orçamentos ativos de um mês (padrão: mês atual)
+     */
+    @GetMapping
+    @Operation(summary = "Listar orçamentos", description = "Orçamentos ativos do mês (YYYY-MM), com gasto e situação do alerta")
+    public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgets(
+            @RequestParam(required = false) String monthYear,
+            @CurrentUser String userId) {
+        try {
+            String month = monthYear != null ? YearMonth.parse(monthYear).toString() : YearMonth.now().toString();
+            List<BudgetResponse> budgets = budgetService.getBudgetsForMonth(userId, month);
+
+            return ResponseEntity.ok(ApiResponse.success(budgets, "Orçamentos carregados"));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Erro ao carregar orçamentos: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Cria um orçamento para uma categoria de despesa em um mês
+     */
+    @PostMapping
+    @Operation(summary = "Criar orçamento", description = "Cria orçamento mensal; o gasto inicial vem das transações confirmadas do mês")
+    public ResponseEntity<ApiResponse<BudgetResponse>> createBudget(
+            @Valid @RequestBody BudgetCreateRequest request, @CurrentUser String userId) {
+        try {
+            BudgetResponse budget = budgetService.createBudget(userId, request);
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(budget, "Orçamento criado com sucesso"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao criar orçamento: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Atualiza valor planejado, limite de alerta e notas
+     */
+    @PutMapping("/{budgetId}")
+    @Operation(summary = "Atualizar orçamento", description = "Atualiza valor planejado, limite de alerta e notas")
+    public ResponseEntity<ApiResponse<BudgetResponse>> updateBudget(
+            @PathVariable String budgetId,
+            @Valid @RequestBody BudgetUpdateRequest request,
+            @CurrentUser String userId) {
+        try {
+            BudgetResponse budget = budgetService.updateBudget(userId, budgetId, request);
+
+            return ResponseEntity.ok(ApiResponse.success(budget, "Orçamento atualizado com sucesso"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao atualizar orçamento: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Desativa um orçamento
+     */
+    @DeleteMapping("/{budgetId}")
+    @Operation(summary = "Desativar orçamento", description = "Desativa o orçamento (soft delete)")
+    public ResponseEntity<ApiResponse<Void>> deactivateBudget(
+            @PathVariable String budgetId, @CurrentUser String userId) {
+        try {
+            budgetService.deactivateBudget(userId, budgetId);
+
+            return ResponseEntity.ok(ApiResponse.success(null, "Orçamento desativado com sucesso"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao desativar orçamento: " + e.getMessage()));
+        }
+    }
+}
@@ -19,7 +19,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.finnantech.application.services.CategoryService;
 import com.finnantech.domain.entities.Category;
-import com.finnantech.infrastructure.services.JwtServiceAdapter;
+import com.finnantech.infrastructure.security.CurrentUser;
+import com.finnantech.infrastructure.web.UserDataETag;
 import com.finnantech.infrastructure.web.dtos.ApiResponse;
 import com.finnantech.infrastructure.web.dtos.CategoryCreateRequest;
 import com.finnantech.infrastructure.web.dtos.CategoryResponse;
@@ -27,14 +28,15 @@ import com.finnantech.infrastructure.web.dtos.CategoryUpdateRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 /**
  * Controller REST para gerenciamento de categorias
  * Endpoints para CRUD de categorias e consultas especializadas
+ * GETs respondem com ETag da versão dos dados do usuário (If-None-Match → 304)
  */
 @RestController
+@UserDataETag
 @RequestMapping("/v1/categories")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
 @Tag(name = "Categories", description = "Endpoints para gerenciamento de categorias")
@@ -42,24 +44,10 @@ import jakarta.validation.Valid;
 public class CategoryController {
     
     private final CategoryService categoryService;
-    private final JwtServiceAdapter jwtService;
     
     @Autowired
-    public CategoryController(CategoryService categoryService, JwtServiceAdapter jwtService) {
+    public CategoryController(CategoryService categoryService) {
         this.categoryService = categoryService;
-        this.jwtService = jwtService;
-    }
-    
-    /**
-     * Extrai o userId do token JWT
-     */
-    private String extractUserIdFromRequest(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtService.extractUserId(token);
-        }
-        throw new RuntimeException("Token JWT não encontrado");
     }
     
     /**
@@ -67,9 +55,8 @@ public class CategoryController {
      * (categorias próprias + categorias padrão do sistema)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getAllCategoriesForUser(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -89,9 +76,8 @@ public class CategoryController {
      */
     @GetMapping("/type/{type}")
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategoriesByType(
-            @PathVariable String type, HttpServletRequest request) {
+            @PathVariable String type, @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getCategoriesByType(userId, type.toUpperCase());
             
             List<CategoryResponse> response = categories.stream()
@@ -111,9 +97,8 @@ public class CategoryController {
      * Lista apenas categorias de despesa
      */
     @GetMapping("/expenses")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getExpenseCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getExpenseCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getExpenseCategories(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -132,9 +117,8 @@ public class CategoryController {
      * Lista apenas categorias de receita
      */
     @GetMapping("/income")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getIncomeCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getIncomeCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getIncomeCategories(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -153,9 +137,8 @@ public class CategoryController {
      * Lista apenas categorias de investimento
      */
     @GetMapping("/investments")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getInvestmentCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getInvestmentCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getInvestmentCategories(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -175,10 +158,8 @@ public class CategoryController {
      */
     @GetMapping("/{categoryId}")
     public ResponseEntity<ApiResponse<CategoryResponse>> getCategoryById(
-            @PathVariable String categoryId, HttpServletRequest request) {
+            @PathVariable String categoryId, @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
-            
             return categoryService.getCategoryById(categoryId)
                     .filter(category -> categoryService.canUserUseCategory(userId, categoryId))
                     .map(category -> ResponseEntity.ok(
@@ -197,10 +178,8 @@ public class CategoryController {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<CategoryResponse>> createCategory(
-            @Valid @RequestBody CategoryCreateRequest request, HttpServletRequest httpRequest) {
+            @Valid @RequestBody CategoryCreateRequest request, @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(httpRequest);
-            
             Category category = categoryService.createUserCategory(
                     userId,
                     request.getName(),
@@ -229,10 +208,8 @@ public class CategoryController {
     public ResponseEntity<ApiResponse<CategoryResponse>> updateCategory(
             @PathVariable String categoryId,
             @Valid @RequestBody CategoryUpdateRequest request,
-            HttpServletRequest httpRequest) {
+            @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(httpRequest);
-            
             Category category = categoryService.updateUserCategory(
                     userId,
                     categoryId,
@@ -259,9 +236,8 @@ public class CategoryController {
      */
     @DeleteMapping("/{categoryId}")
     public ResponseEntity<ApiResponse<Void>> deactivateCategory(
-            @PathVariable String categoryId, HttpServletRequest request) {
+            @PathVariable String categoryId, @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             categoryService.deactivateUserCategory(userId, categoryId);
             
             return ResponseEntity.ok(ApiResponse.success(null, "Categoria desativada com sucesso"));
@@ -280,9 +256,8 @@ public class CategoryController {
      */
     @PatchMapping("/{categoryId}/activate")
     public ResponseEntity<ApiResponse<CategoryResponse>> reactivateCategory(
-            @PathVariable String categoryId, HttpServletRequest request) {
+            @PathVariable String categoryId, @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             categoryService.reactivateUserCategory(userId, categoryId);
             
             return categoryService.getCategoryById(categoryId)
@@ -301,9 +276,8 @@ public class CategoryController {
      * Lista categorias mais utilizadas pelo usuário
      */
     @GetMapping("/most-used")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getMostUsedCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getMostUsedCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getMostUsedCategories(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -322,9 +296,8 @@ public class CategoryController {
      * Lista apenas categorias personalizadas do usuário
      */
     @GetMapping("/custom")
-    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCustomCategories(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCustomCategories(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<Category> categories = categoryService.getUserCustomCategories(userId);
             
             List<CategoryResponse> response = categories.stream()
@@ -343,9 +316,8 @@ public class CategoryController {
      * Obtém estatísticas das categorias do usuário
      */
     @GetMapping("/stats")
-    public ResponseEntity<ApiResponse<Object>> getCategoryStats(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<Object>> getCategoryStats(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             long customCount = categoryService.countUserCategories(userId);
             boolean canCreateMore = categoryService.canCreateMoreCategories(userId);
             
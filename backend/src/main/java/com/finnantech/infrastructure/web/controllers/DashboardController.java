@@ -3,6 +3,7 @@ package com.finnantech.infrastructure.web.controllers;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,24 +13,30 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.finnantech.application.services.DashboardOverviewService;
 import com.finnantech.application.services.DashboardService;
-import com.finnantech.infrastructure.services.JwtServiceAdapter;
+import com.finnantech.infrastructure.security.CurrentUser;
+import com.finnantech.infrastructure.web.UserDataETag;
 import com.finnantech.infrastructure.web.dtos.ApiResponse;
+import com.finnantech.infrastructure.web.dtos.BudgetResponse;
 import com.finnantech.infrastructure.web.dtos.CategoryStatsResponse;
+import com.finnantech.infrastructure.web.dtos.DashboardOverviewResponse;
 import com.finnantech.infrastructure.web.dtos.DashboardSummaryResponse;
 import com.finnantech.infrastructure.web.dtos.MonthlyExpensesResponse;
+import com.finnantech.infrastructure.web.dtos.PeriodComparisonResponse;
 import com.finnantech.infrastructure.web.dtos.RecentTransactionResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Controller REST para dashboard e estatísticas financeiras
  * Endpoints para dados de resumo, gráficos e métricas
+ * GETs respondem com ETag da versão dos dados do usuário (If-None-Match → 304)
  */
 @RestController
+@UserDataETag
 @RequestMapping("/v1/dashboard")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
 @Tag(name = "Dashboard", description = "Endpoints para dashboard e estatísticas financeiras")
@@ -37,24 +44,34 @@ import jakarta.servlet.http.HttpServletRequest;
 public class DashboardController {
 
     private final DashboardService dashboardService;
-    private final JwtServiceAdapter jwtService;
+    private final DashboardOverviewService dashboardOverviewService;
 
     @Autowired
-    public DashboardController(DashboardService dashboardService, JwtServiceAdapter jwtService) {
+    public DashboardController(DashboardService dashboardService, DashboardOverviewService dashboardOverviewService) {
         this.dashboardService = dashboardService;
-        this.jwtService = jwtService;
+        this.dashboardOverviewService = dashboardOverviewService;
     }
 
     /**
-     * Extrai o userId do token JWT
+     * Obter visão geral do dashboard em uma única chamada
      */
-    private String extractUserIdFromRequest(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtService.extractUserId(token);
+    @GetMapping("/overview")
+    @Operation(summary = "Visão geral", description = "Resumo, estatísticas por categoria, despesas mensais e transações recentes calculados em paralelo; seções fora do prazo vêm em unavailableSections")
+    public ResponseEntity<ApiResponse<DashboardOverviewResponse>> getOverview(@CurrentUser String userId) {
+        try {
+            DashboardOverviewResponse overview = dashboardOverviewService.getOverview(userId);
+
+            if (!overview.isComplete()) {
+                // Resposta parcial não recebe ETag: a próxima carga precisa recalcular as seções que faltaram
+                return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+                        .body(ApiResponse.success(overview, "Visão geral carregada parcialmente"));
+            }
+            return ResponseEntity.ok(ApiResponse.success(overview, "Visão geral carregada"));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao carregar visão geral: " + e.getMessage()));
         }
-        throw new RuntimeException("Token JWT não encontrado");
     }
 
     /**
@@ -62,9 +79,8 @@ public class DashboardController {
      */
     @GetMapping("/summary")
     @Operation(summary = "Resumo financeiro", description = "Obtém resumo geral das finanças do usuário")
-    public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getDashboardSummary(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getDashboardSummary(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             DashboardSummaryResponse summary = dashboardService.getDashboardSummary(userId);
             
             return ResponseEntity.ok(ApiResponse.success(summary, "Resumo carregado com sucesso"));
@@ -83,9 +99,8 @@ public class DashboardController {
     public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getMonthlySummary(
             @PathVariable int year, 
             @PathVariable int month, 
-            HttpServletRequest request) {
+            @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             DashboardSummaryResponse summary = dashboardService.getMonthlySummary(userId, year, month);
             
             return ResponseEntity.ok(ApiResponse.success(summary, "Resumo mensal carregado"));
@@ -101,9 +116,8 @@ public class DashboardController {
      */
     @GetMapping("/categories/stats")
     @Operation(summary = "Estatísticas por categoria", description = "Estatísticas de gastos por categoria")
-    public ResponseEntity<ApiResponse<List<CategoryStatsResponse>>> getCategoryStats(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<CategoryStatsResponse>>> getCategoryStats(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<CategoryStatsResponse> stats = dashboardService.getCategoryStats(userId);
             
             return ResponseEntity.ok(ApiResponse.success(stats, "Estatísticas carregadas"));
@@ -119,9 +133,8 @@ public class DashboardController {
      */
     @GetMapping("/expenses/monthly")
     @Operation(summary = "Despesas mensais", description = "Despesas mensais dos últimos 6 meses para gráfico de barras")
-    public ResponseEntity<ApiResponse<List<MonthlyExpensesResponse>>> getMonthlyExpenses(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<MonthlyExpensesResponse>>> getMonthlyExpenses(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<MonthlyExpensesResponse> expenses = dashboardService.getMonthlyExpenses(userId);
             
             return ResponseEntity.ok(ApiResponse.success(expenses, "Despesas mensais carregadas"));
@@ -140,10 +153,8 @@ public class DashboardController {
     public ResponseEntity<ApiResponse<List<MonthlyExpensesResponse>>> getMonthlyExpensesByPeriod(
             @RequestParam String startDate,  // formato: YYYY-MM-DD
             @RequestParam String endDate,    // formato: YYYY-MM-DD
-            HttpServletRequest request) {
+            @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
-            
             // Converter strings para LocalDate
             java.time.LocalDate start = java.time.LocalDate.parse(startDate);
             java.time.LocalDate end = java.time.LocalDate.parse(endDate);
@@ -162,14 +173,13 @@ public class DashboardController {
      * Obter comparativo entre dois períodos
      */
     @GetMapping("/compare")
-    @Operation(summary = "Comparar períodos", description = "Compara receitas e despesas entre dois períodos")
-    public ResponseEntity<ApiResponse<Object>> comparePeriods(
-            @RequestParam String period1,  // formato: YYYY-MM
-            @RequestParam String period2,  // formato: YYYY-MM
-            HttpServletRequest request) {
+    @Operation(summary = "Comparar períodos", description = "Compara receitas, despesas, saldo e categorias entre dois períodos")
+    public ResponseEntity<ApiResponse<PeriodComparisonResponse>> comparePeriods(
+            @RequestParam String period1,  // formato: YYYY, YYYY-Qn, YYYY-MM ou início..fim (YYYY-MM-DD ou YYYY-MM)
+            @RequestParam String period2,
+            @CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
-            Object comparison = dashboardService.comparePeriods(userId, period1, period2);
+            PeriodComparisonResponse comparison = dashboardService.comparePeriods(userId, period1, period2);
             
             return ResponseEntity.ok(ApiResponse.success(comparison, "Comparação realizada"));
             
@@ -184,9 +194,8 @@ public class DashboardController {
      */
     @GetMapping("/recent-transactions")
     @Operation(summary = "Transações recentes", description = "Últimas 10 transações do usuário")
-    public ResponseEntity<ApiResponse<List<RecentTransactionResponse>>> getRecentTransactions(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<RecentTransactionResponse>>> getRecentTransactions(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
             List<RecentTransactionResponse> transactions = dashboardService.getRecentTransactions(userId);
             
             return ResponseEntity.ok(ApiResponse.success(transactions, "Transações recentes carregadas"));
@@ -202,10 +211,9 @@ public class DashboardController {
      */
     @GetMapping("/budgets")
     @Operation(summary = "Metas e orçamentos", description = "Metas de gastos e orçamentos por categoria")
-    public ResponseEntity<ApiResponse<Object>> getBudgets(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<List<BudgetResponse>>> getBudgets(@CurrentUser String userId) {
         try {
-            String userId = extractUserIdFromRequest(request);
-            Object budgets = dashboardService.getBudgets(userId);
+            List<BudgetResponse> budgets = dashboardService.getBudgets(userId);
             
             return ResponseEntity.ok(ApiResponse.success(budgets, "Orçamentos carregados"));
             
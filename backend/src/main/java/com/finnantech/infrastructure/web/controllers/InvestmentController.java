@@ -0,0 +1,123 @@
+package com.finnantech.infrastructure.web.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.finnantech.application.services.InvestmentService;
+import com.finnantech.infrastructure.security.CurrentUser;
+import com.finnantech.infrastructure.web.dtos.ApiResponse;
+import com.finnantech.infrastructure.web.dtos.InvestmentCreateRequest;
+import com.finnantech.infrastructure.web.dtos.InvestmentResponse;
+import com.finnantech.infrastructure.web.dtos.PortfolioResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controller REST para investimentos
+ * As cotações não são recebidas por aqui: vêm da fonte de preços configurada
+ */
+@RestController
+@RequestMapping("/v1/investments")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
+@Tag(name = "Investments", description = "Endpoints para posições de investimento e carteira")
+@SecurityRequirement(name = "Bearer Authentication")
+public class InvestmentController {
+
+    private final InvestmentService investmentService;
+
+    @Autowired
+    public InvestmentController(InvestmentService investmentService) {
+        this.investmentService = investmentService;
+    }
+
+    /**
+     * Lista as posições ativas do usuário
+     */
+    @GetMapping
+    @Operation(summary = "Listar investimentos", description = "Posições ativas com valor atual e rentabilidade")
+    public ResponseEntity<ApiResponse<List<InvestmentResponse>>> getInvestments(@CurrentUser String userId) {
+        try {
+            List<InvestmentResponse> investments = investmentService.getInvestments(userId);
+
+            return ResponseEntity.ok(ApiResponse.success(investments, "Investimentos carregados"));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao carregar investimentos: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Totais da carteira e alocação por tipo
+     */
+    @GetMapping("/portfolio")
+    @Operation(summary = "Carteira", description = "Valor investido, valor atual, rentabilidade e alocação por tipo")
+    public ResponseEntity<ApiResponse<PortfolioResponse>> getPortfolio(@CurrentUser String userId) {
+        try {
+            PortfolioResponse portfolio = investmentService.getPortfolio(userId);
+
+            return ResponseEntity.ok(ApiResponse.success(portfolio, "Carteira carregada"));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao carregar carteira: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Registra uma posição de investimento
+     */
+    @PostMapping
+    @Operation(summary = "Criar investimento", description = "Registra posição; com símbolo e quantidade passa a ser reavaliada pelas cotações")
+    public ResponseEntity<ApiResponse<InvestmentResponse>> createInvestment(
+            @Valid @RequestBody InvestmentCreateRequest request, @CurrentUser String userId) {
+        try {
+            InvestmentResponse investment = investmentService.createInvestment(userId, request);
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(investment, "Investimento criado com sucesso"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao criar investimento: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Desativa uma posição
+     */
+    @DeleteMapping("/{investmentId}")
+    @Operation(summary = "Desativar investimento", description = "Desativa a posição (soft delete)")
+    public ResponseEntity<ApiResponse<Void>> deactivateInvestment(
+            @PathVariable String investmentId, @CurrentUser String userId) {
+        try {
+            investmentService.deactivateInvestment(userId, investmentId);
+
+            return ResponseEntity.ok(ApiResponse.success(null, "Investimento desativado com sucesso"));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao desativar investimento: " + e.getMessage()));
+        }
+    }
+}
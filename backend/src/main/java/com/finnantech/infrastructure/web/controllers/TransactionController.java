@@ -0,0 +1,189 @@
+package com.finnantech.infrastructure.web.controllers;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.finnantech.application.services.TransactionExportService;
+import com.finnantech.application.services.TransactionExportService.ExportFormat;
+import com.finnantech.application.services.TransactionImportService;
+import com.finnantech.application.services.TransactionService;
+import com.finnantech.infrastructure.security.CurrentUser;
+import com.finnantech.infrastructure.statements.StatementFormat;
+import com.finnantech.infrastructure.web.dtos.ApiResponse;
+import com.finnantech.infrastructure.web.dtos.TransactionBatchCreateRequest;
+import com.finnantech.infrastructure.web.dtos.TransactionBatchResponse;
+import com.finnantech.infrastructure.web.dtos.TransactionFilterRequest;
+import com.finnantech.infrastructure.web.dtos.TransactionImportResponse;
+import com.finnantech.infrastructure.web.dtos.TransactionPageResponse;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controller REST para gerenciamento de transações
+ */
+@RestController
+@RequestMapping("/v1/transactions")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002"})
+@Tag(name = "Transactions", description = "Endpoints para gerenciamento de transações")
+@SecurityRequirement(name = "Bearer Authentication")
+public class TransactionController {
+    
+    private static final Logger log = LoggerFactory.getLogger(TransactionController.class);
+    
+    private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
+    
+    public TransactionController(TransactionService transactionService, TransactionExportService transactionExportService,
+                                 TransactionImportService transactionImportService) {
+        this.transactionService = transactionService;
+        this.transactionExportService = transactionExportService;
+        this.transactionImportService = transactionImportService;
+    }
+    
+    /**
+     * Lista transações do usuário paginadas por cursor (mais recentes primeiro)
+     * Para a próxima página envie o nextCursor recebido; filtros: type, categoryId,
+     * paymentMethodId, status, minAmount e maxAmount
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<TransactionPageResponse>> listTransactions(
+            TransactionFilterRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @CurrentUser String userId) {
+        try {
+            TransactionPageResponse page = transactionService.listTransactions(userId, filter, cursor, limit);
+            
+            return ResponseEntity.ok(ApiResponse.success(page, "Transações carregadas com sucesso"));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao carregar transações: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Exporta todas as transações do usuário (ou do período informado) em CSV ou NDJSON
+     * O arquivo é gerado em streaming; com gzip=true a saída é comprimida (.gz)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @CurrentUser String userId) {
+        // o corpo é um stream, então erros de parâmetro saem como ResponseStatusException em vez de ApiResponse
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Data inicial não pode ser posterior à data final");
+        }
+        String fileName = "transacoes." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, 8192, true) : null;
+            long exported = transactionExportService.export(userId, startDate, endDate, exportFormat,
+                    compressed != null ? compressed : out);
+            if (compressed != null) {
+                compressed.finish();
+            }
+            log.debug("Exportação de {} transações concluída para o usuário {}", exported, userId);
+        };
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+    
+    /**
+     * Importa um extrato bancário (OFX ou CSV) como transações pendentes
+     * Lançamentos já existentes (mesmo id externo ou mesmo valor, data e descrição) são ignorados
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<TransactionImportResponse>> importStatement(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String expenseCategoryId,
+            @RequestParam(required = false) String incomeCategoryId,
+            @RequestParam(required = false) String paymentMethodId,
+            @RequestParam(defaultValue = "UTF-8") String charset,
+            @CurrentUser String userId) {
+        try {
+            StatementFormat statementFormat = StatementFormat.resolve(format, file.getOriginalFilename());
+            TransactionImportResponse result;
+            try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), Charset.forName(charset)))) {
+                result = transactionImportService.importStatement(userId, reader, statementFormat,
+                        expenseCategoryId, incomeCategoryId, paymentMethodId);
+            }
+            
+            return ResponseEntity.ok(ApiResponse.success(result,
+                    result.getImported() + " transações importadas, " + result.getDuplicates() + " duplicadas"));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao importar extrato: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Cria transações em lote (até 5000 por requisição)
+     * O lote é atômico: se alguma linha for inválida nenhuma transação é gravada
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<TransactionBatchResponse>> createBatch(
+            @Valid @RequestBody TransactionBatchCreateRequest request, @CurrentUser String userId) {
+        try {
+            List<String> ids = transactionService.createBatch(userId, request.getTransactions());
+            
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(new TransactionBatchResponse(ids),
+                            ids.size() + " transações criadas com sucesso"));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro ao criar transações: " + e.getMessage()));
+        }
+    }
+}
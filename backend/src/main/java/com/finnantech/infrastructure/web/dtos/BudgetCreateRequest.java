@@ -0,0 +1,47 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+
+/**
+ * DTO para criação de orçamento mensal por categoria
+ */
+public class BudgetCreateRequest {
+    
+    @NotBlank(message = "ID da categoria é obrigatório")
+    private String categoryId;
+    
+    @NotBlank(message = "Mês é obrigatório")
+    @Pattern(regexp = "^\\d{4}-(0[1-9]|1[0-2])$", message = "Mês deve estar no formato YYYY-MM")
+    private String monthYear;
+    
+    @NotNull(message = "Valor planejado é obrigatório")
+    @DecimalMin(value = "0.01", message = "Valor planejado deve ser maior que zero")
+    private BigDecimal plannedAmount;
+    
+    @DecimalMin(value = "0.01", message = "Limite de alerta deve ser maior que zero")
+    @DecimalMax(value = "100.00", message = "Limite de alerta deve ser no máximo 100")
+    private BigDecimal alertThreshold;
+    
+    @Size(max = 1000, message = "Notas devem ter no máximo 1000 caracteres")
+    private String notes;
+
+    // Construtores
+    public BudgetCreateRequest() {}
+
+    // Getters e Setters
+    public String getCategoryId() { return categoryId; }
+    public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+
+    public String getMonthYear() { return monthYear; }
+    public void setMonthYear(String monthYear) { this.monthYear = monthYear; }
+
+    public BigDecimal getPlannedAmount() { return plannedAmount; }
+    public void setPlannedAmount(BigDecimal plannedAmount) { this.plannedAmount = plannedAmount; }
+
+    public BigDecimal getAlertThreshold() { return alertThreshold; }
+    public void setAlertThreshold(BigDecimal alertThreshold) { this.alertThreshold = alertThreshold; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+}
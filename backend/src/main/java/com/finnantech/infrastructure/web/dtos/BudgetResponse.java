@@ -0,0 +1,71 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de resposta para orçamento mensal por categoria
+ * status: OK, ALERTA (limite de alerta atingido) ou EXCEDIDO (gasto acima do planejado)
+ */
+public class BudgetResponse {
+    
+    private String id;
+    private String categoryId;
+    private String categoryName;
+    private String categoryColor;
+    private String categoryIcon;
+    private String monthYear;
+    private BigDecimal plannedAmount;
+    private BigDecimal spentAmount;
+    private BigDecimal remainingAmount;
+    private BigDecimal usagePercentage;
+    private BigDecimal alertThreshold;
+    private Boolean alertSent;
+    private String status;
+    private String notes;
+
+    // Construtores
+    public BudgetResponse() {}
+
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCategoryId() { return categoryId; }
+    public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+
+    public String getCategoryName() { return categoryName; }
+    public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
+
+    public String getCategoryColor() { return categoryColor; }
+    public void setCategoryColor(String categoryColor) { this.categoryColor = categoryColor; }
+
+    public String getCategoryIcon() { return categoryIcon; }
+    public void setCategoryIcon(String categoryIcon) { this.categoryIcon = categoryIcon; }
+
+    public String getMonthYear() { return monthYear; }
+    public void setMonthYear(String monthYear) { this.monthYear = monthYear; }
+
+    public BigDecimal getPlannedAmount() { return plannedAmount; }
+    public void setPlannedAmount(BigDecimal plannedAmount) { this.plannedAmount = plannedAmount; }
+
+    public BigDecimal getSpentAmount() { return spentAmount; }
+    public void setSpentAmount(BigDecimal spentAmount) { this.spentAmount = spentAmount; }
+
+    public BigDecimal getRemainingAmount() { return remainingAmount; }
+    public void setRemainingAmount(BigDecimal remainingAmount) { this.remainingAmount = remainingAmount; }
+
+    public BigDecimal getUsagePercentage() { return usagePercentage; }
+    public void setUsagePercentage(BigDecimal usagePercentage) { this.usagePercentage = usagePercentage; }
+
+    public BigDecimal getAlertThreshold() { return alertThreshold; }
+    public void setAlertThreshold(BigDecimal alertThreshold) { this.alertThreshold = alertThreshold; }
+
+    public Boolean getAlertSent() { return alertSent; }
+    public void setAlertSent(Boolean alertSent) { this.alertSent = alertSent; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+}
@@ -0,0 +1,35 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+
+/**
+ * DTO para atualização de orçamento
+ * Categoria e mês não podem ser alterados
+ */
+public class BudgetUpdateRequest {
+    
+    @NotNull(message = "Valor planejado é obrigatório")
+    @DecimalMin(value = "0.01", message = "Valor planejado deve ser maior que zero")
+    private BigDecimal plannedAmount;
+    
+    @DecimalMin(value = "0.01", message = "Limite de alerta deve ser maior que zero")
+    @DecimalMax(value = "100.00", message = "Limite de alerta deve ser no máximo 100")
+    private BigDecimal alertThreshold;
+    
+    @Size(max = 1000, message = "Notas devem ter no máximo 1000 caracteres")
+    private String notes;
+
+    // Construtores
+    public BudgetUpdateRequest() {}
+
+    // Getters e Setters
+    public BigDecimal getPlannedAmount() { return plannedAmount; }
+    public void setPlannedAmount(BigDecimal plannedAmount) { this.plannedAmount = plannedAmount; }
+
+    public BigDecimal getAlertThreshold() { return alertThreshold; }
+    public void setAlertThreshold(BigDecimal alertThreshold) { this.alertThreshold = alertThreshold; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+}
@@ -0,0 +1,50 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com a variação de uma categoria entre os dois períodos comparados
+ */
+public class CategoryComparisonResponse {
+    
+    private String categoryId;
+    private String categoryName;
+    private String type;
+    private BigDecimal period1Amount;
+    private BigDecimal period2Amount;
+    private BigDecimal difference;
+    private BigDecimal variation;
+    private Long period1Count;
+    private Long period2Count;
+
+    // Construtores
+    public CategoryComparisonResponse() {}
+
+    // Getters e Setters
+    public String getCategoryId() { return categoryId; }
+    public void setCategoryId(String categoryId) { this.categoryId = categoryId; }
+
+    public String getCategoryName() { return categoryName; }
+    public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public BigDecimal getPeriod1Amount() { return period1Amount; }
+    public void setPeriod1Amount(BigDecimal period1Amount) { this.period1Amount = period1Amount; }
+
+    public BigDecimal getPeriod2Amount() { return period2Amount; }
+    public void setPeriod2Amount(BigDecimal period2Amount) { this.period2Amount = period2Amount; }
+
+    public BigDecimal getDifference() { return difference; }
+    public void setDifference(BigDecimal difference) { this.difference = difference; }
+
+    public BigDecimal getVariation() { return variation; }
+    public void setVariation(BigDecimal variation) { this.variation = variation; }
+
+    public Long getPeriod1Count() { return period1Count; }
+    public void setPeriod1Count(Long period1Count) { this.period1Count = period1Count; }
+
+    public Long getPeriod2Count() { return period2Count; }
+    public void setPeriod2Count(Long period2Count) { this.period2Count = period2Count; }
+}
@@ -0,0 +1,40 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de resposta da visão geral do dashboard (resumo, categorias, despesas mensais e transações recentes)
+ * Seções que não terminaram no prazo ou falharam ficam nulas e são listadas em unavailableSections
+ */
+public class DashboardOverviewResponse {
+
+    private DashboardSummaryResponse summary;
+    private List<CategoryStatsResponse> categoryStats;
+    private List<MonthlyExpensesResponse> monthlyExpenses;
+    private List<RecentTransactionResponse> recentTransactions;
+    private List<String> unavailableSections = new ArrayList<>();
+
+    // Construtores
+    public DashboardOverviewResponse() {}
+
+    public boolean isComplete() {
+        return unavailableSections.isEmpty();
+    }
+
+    // Getters e Setters
+    public DashboardSummaryResponse getSummary() { return summary; }
+    public void setSummary(DashboardSummaryResponse summary) { this.summary = summary; }
+
+    public List<CategoryStatsResponse> getCategoryStats() { return categoryStats; }
+    public void setCategoryStats(List<CategoryStatsResponse> categoryStats) { this.categoryStats = categoryStats; }
+
+    public List<MonthlyExpensesResponse> getMonthlyExpenses() { return monthlyExpenses; }
+    public void setMonthlyExpenses(List<MonthlyExpensesResponse> monthlyExpenses) { this.monthlyExpenses = monthlyExpenses; }
+
+    public List<RecentTransactionResponse> getRecentTransactions() { return recentTransactions; }
+    public void setRecentTransactions(List<RecentTransactionResponse> recentTransactions) { this.recentTransactions = recentTransactions; }
+
+    public List<String> getUnavailableSections() { return unavailableSections; }
+    public void setUnavailableSections(List<String> unavailableSections) { this.unavailableSections = unavailableSections; }
+}
@@ -0,0 +1,77 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO para criação de posição de investimento
+ */
+public class InvestmentCreateRequest {
+    
+    @NotBlank(message = "Nome é obrigatório")
+    @Size(max = 200, message = "Nome deve ter no máximo 200 caracteres")
+    private String name;
+    
+    @NotBlank(message = "Tipo é obrigatório")
+    @Pattern(regexp = "^(ACAO|FUNDO|TESOURO|CDB|LCI|LCA|CRYPTO|IMOVEL|OUTRO)$", message = "Tipo de investimento inválido")
+    private String type;
+    
+    @Size(max = 20, message = "Símbolo deve ter no máximo 20 caracteres")
+    private String symbol;
+    
+    @NotNull(message = "Valor investido é obrigatório")
+    @DecimalMin(value = "0.01", message = "Valor investido deve ser maior que zero")
+    private BigDecimal initialAmount;
+    
+    @DecimalMin(value = "0.00000001", message = "Quantidade deve ser maior que zero")
+    private BigDecimal quantity;
+    
+    @DecimalMin(value = "0.00", message = "Preço médio não pode ser negativo")
+    private BigDecimal averagePrice;
+    
+    @NotNull(message = "Data da compra é obrigatória")
+    private LocalDate purchaseDate;
+    
+    private LocalDate maturityDate;
+    
+    @Size(max = 100, message = "Corretora deve ter no máximo 100 caracteres")
+    private String broker;
+    
+    @Size(max = 1000, message = "Notas devem ter no máximo 1000 caracteres")
+    private String notes;
+
+    // Construtores
+    public InvestmentCreateRequest() {}
+
+    // Getters e Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getSymbol() { return symbol; }
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public BigDecimal getInitialAmount() { return initialAmount; }
+    public void setInitialAmount(BigDecimal initialAmount) { this.initialAmount = initialAmount; }
+
+    public BigDecimal getQuantity() { return quantity; }
+    public void setQuantity(BigDecimal quantity) { this.quantity = quantity; }
+
+    public BigDecimal getAveragePrice() { return averagePrice; }
+    public void setAveragePrice(BigDecimal averagePrice) { this.averagePrice = averagePrice; }
+
+    public LocalDate getPurchaseDate() { return purchaseDate; }
+    public void setPurchaseDate(LocalDate purchaseDate) { this.purchaseDate = purchaseDate; }
+
+    public LocalDate getMaturityDate() { return maturityDate; }
+    public void setMaturityDate(LocalDate maturityDate) { this.maturityDate = maturityDate; }
+
+    public String getBroker() { return broker; }
+    public void setBroker(String broker) { this.broker = broker; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+}
@@ -0,0 +1,76 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta para posição de investimento
+ */
+public class InvestmentResponse {
+    
+    private String id;
+    private String name;
+    private String type;
+    private String symbol;
+    private BigDecimal initialAmount;
+    private BigDecimal currentAmount;
+    private BigDecimal quantity;
+    private BigDecimal averagePrice;
+    private BigDecimal profitLoss;
+    private BigDecimal profitLossPercent;
+    private LocalDate purchaseDate;
+    private LocalDate maturityDate;
+    private LocalDateTime lastUpdate;
+    private String broker;
+    private String notes;
+
+    // Construtores
+    public InvestmentResponse() {}
+
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getSymbol() { return symbol; }
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public BigDecimal getInitialAmount() { return initialAmount; }
+    public void setInitialAmount(BigDecimal initialAmount) { this.initialAmount = initialAmount; }
+
+    public BigDecimal getCurrentAmount() { return currentAmount; }
+    public void setCurrentAmount(BigDecimal currentAmount) { this.currentAmount = currentAmount; }
+
+    public BigDecimal getQuantity() { return quantity; }
+    public void setQuantity(BigDecimal quantity) { this.quantity = quantity; }
+
+    public BigDecimal getAveragePrice() { return averagePrice; }
+    public void setAveragePrice(BigDecimal averagePrice) { this.averagePrice = averagePrice; }
+
+    public BigDecimal getProfitLoss() { return profitLoss; }
+    public void setProfitLoss(BigDecimal profitLoss) { this.profitLoss = profitLoss; }
+
+    public BigDecimal getProfitLossPercent() { return profitLossPercent; }
+    public void setProfitLossPercent(BigDecimal profitLossPercent) { this.profitLossPercent = profitLossPercent; }
+
+    public LocalDate getPurchaseDate() { return purchaseDate; }
+    public void setPurchaseDate(LocalDate purchaseDate) { this.purchaseDate = purchaseDate; }
+
+    public LocalDate getMaturityDate() { return maturityDate; }
+    public void setMaturityDate(LocalDate maturityDate) { this.maturityDate = maturityDate; }
+
+    public LocalDateTime getLastUpdate() { return lastUpdate; }
+    public void setLastUpdate(LocalDateTime lastUpdate) { this.lastUpdate = lastUpdate; }
+
+    public String getBroker() { return broker; }
+    public void setBroker(String broker) { this.broker = broker; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+}
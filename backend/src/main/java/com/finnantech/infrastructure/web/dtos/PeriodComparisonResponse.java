@@ -0,0 +1,56 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO de resposta da comparação entre dois períodos
+ * Diferenças são period2 - period1; variações são percentuais sobre period1
+ */
+public class PeriodComparisonResponse {
+    
+    private PeriodSummaryResponse period1;
+    private PeriodSummaryResponse period2;
+    private BigDecimal incomeDifference;
+    private BigDecimal expensesDifference;
+    private BigDecimal balanceDifference;
+    private Long transactionCountDifference;
+    private BigDecimal incomeVariation;
+    private BigDecimal expensesVariation;
+    private BigDecimal balanceVariation;
+    private List<CategoryComparisonResponse> categories;
+
+    // Construtores
+    public PeriodComparisonResponse() {}
+
+    // Getters e Setters
+    public PeriodSummaryResponse getPeriod1() { return period1; }
+    public void setPeriod1(PeriodSummaryResponse period1) { this.period1 = period1; }
+
+    public PeriodSummaryResponse getPeriod2() { return period2; }
+    public void setPeriod2(PeriodSummaryResponse period2) { this.period2 = period2; }
+
+    public BigDecimal getIncomeDifference() { return incomeDifference; }
+    public void setIncomeDifference(BigDecimal incomeDifference) { this.incomeDifference = incomeDifference; }
+
+    public BigDecimal getExpensesDifference() { return expensesDifference; }
+    public void setExpensesDifference(BigDecimal expensesDifference) { this.expensesDifference = expensesDifference; }
+
+    public BigDecimal getBalanceDifference() { return balanceDifference; }
+    public void setBalanceDifference(BigDecimal balanceDifference) { this.balanceDifference = balanceDifference; }
+
+    public Long getTransactionCountDifference() { return transactionCountDifference; }
+    public void setTransactionCountDifference(Long transactionCountDifference) { this.transactionCountDifference = transactionCountDifference; }
+
+    public BigDecimal getIncomeVariation() { return incomeVariation; }
+    public void setIncomeVariation(BigDecimal incomeVariation) { this.incomeVariation = incomeVariation; }
+
+    public BigDecimal getExpensesVariation() { return expensesVariation; }
+    public void setExpensesVariation(BigDecimal expensesVariation) { this.expensesVariation = expensesVariation; }
+
+    public BigDecimal getBalanceVariation() { return balanceVariation; }
+    public void setBalanceVariation(BigDecimal balanceVariation) { this.balanceVariation = balanceVariation; }
+
+    public List<CategoryComparisonResponse> getCategories() { return categories; }
+    public void setCategories(List<CategoryComparisonResponse> categories) { this.categories = categories; }
+}
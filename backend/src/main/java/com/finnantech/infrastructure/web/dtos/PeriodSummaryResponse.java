@@ -0,0 +1,54 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO com os totais de um período na comparação de períodos
+ */
+public class PeriodSummaryResponse {
+    
+    private String label;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal income;
+    private BigDecimal expenses;
+    private BigDecimal balance;
+    private Long transactionCount;
+
+    // Construtores
+    public PeriodSummaryResponse() {}
+
+    public PeriodSummaryResponse(String label, LocalDate startDate, LocalDate endDate, BigDecimal income,
+                                 BigDecimal expenses, Long transactionCount) {
+        this.label = label;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.income = income;
+        this.expenses = expenses;
+        this.balance = income.subtract(expenses);
+        this.transactionCount = transactionCount;
+    }
+
+    // Getters e Setters
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public BigDecimal getIncome() { return income; }
+    public void setIncome(BigDecimal income) { this.income = income; }
+
+    public BigDecimal getExpenses() { return expenses; }
+    public void setExpenses(BigDecimal expenses) { this.expenses = expenses; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+}
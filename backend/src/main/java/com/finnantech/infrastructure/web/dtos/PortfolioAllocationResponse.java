@@ -0,0 +1,48 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com a alocação da carteira em um tipo de investimento
+ */
+public class PortfolioAllocationResponse {
+    
+    private String type;
+    private Long holdings;
+    private BigDecimal investedAmount;
+    private BigDecimal currentAmount;
+    private BigDecimal profitLoss;
+    private Double percentage; // % do valor atual da carteira
+
+    // Construtores
+    public PortfolioAllocationResponse() {}
+
+    public PortfolioAllocationResponse(String type, Long holdings, BigDecimal investedAmount,
+                                       BigDecimal currentAmount, Double percentage) {
+        this.type = type;
+        this.holdings = holdings;
+        this.investedAmount = investedAmount;
+        this.currentAmount = currentAmount;
+        this.profitLoss = currentAmount.subtract(investedAmount);
+        this.percentage = percentage;
+    }
+
+    // Getters e Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getHoldings() { return holdings; }
+    public void setHoldings(Long holdings) { this.holdings = holdings; }
+
+    public BigDecimal getInvestedAmount() { return investedAmount; }
+    public void setInvestedAmount(BigDecimal investedAmount) { this.investedAmount = investedAmount; }
+
+    public BigDecimal getCurrentAmount() { return currentAmount; }
+    public void setCurrentAmount(BigDecimal currentAmount) { this.currentAmount = currentAmount; }
+
+    public BigDecimal getProfitLoss() { return profitLoss; }
+    public void setProfitLoss(BigDecimal profitLoss) { this.profitLoss = profitLoss; }
+
+    public Double getPercentage() { return percentage; }
+    public void setPercentage(Double percentage) { this.percentage = percentage; }
+}
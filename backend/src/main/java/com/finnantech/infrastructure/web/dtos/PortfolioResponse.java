@@ -0,0 +1,44 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO com os totais da carteira de investimentos do usuário
+ */
+public class PortfolioResponse {
+    
+    private BigDecimal investedAmount;
+    private BigDecimal currentAmount;
+    private BigDecimal profitLoss;
+    private BigDecimal profitLossPercent;
+    private Long holdings;
+    private LocalDateTime lastPriceUpdate;
+    private List<PortfolioAllocationResponse> allocation;
+
+    // Construtores
+    public PortfolioResponse() {}
+
+    // Getters e Setters
+    public BigDecimal getInvestedAmount() { return investedAmount; }
+    public void setInvestedAmount(BigDecimal investedAmount) { this.investedAmount = investedAmount; }
+
+    public BigDecimal getCurrentAmount() { return currentAmount; }
+    public void setCurrentAmount(BigDecimal currentAmount) { this.currentAmount = currentAmount; }
+
+    public BigDecimal getProfitLoss() { return profitLoss; }
+    public void setProfitLoss(BigDecimal profitLoss) { this.profitLoss = profitLoss; }
+
+    public BigDecimal getProfitLossPercent() { return profitLossPercent; }
+    public void setProfitLossPercent(BigDecimal profitLossPercent) { this.profitLossPercent = profitLossPercent; }
+
+    public Long getHoldings() { return holdings; }
+    public void setHoldings(Long holdings) { this.holdings = holdings; }
+
+    public LocalDateTime getLastPriceUpdate() { return lastPriceUpdate; }
+    public void setLastPriceUpdate(LocalDateTime lastPriceUpdate) { this.lastPriceUpdate = lastPriceUpdate; }
+
+    public List<PortfolioAllocationResponse> getAllocation() { return allocation; }
+    public void setAllocation(List<PortfolioAllocationResponse> allocation) { this.allocation = allocation; }
+}
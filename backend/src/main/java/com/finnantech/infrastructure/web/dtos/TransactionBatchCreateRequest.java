@@ -0,0 +1,28 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO para criação de transações em lote
+ */
+public class TransactionBatchCreateRequest {
+    
+    @NotEmpty(message = "Informe ao menos uma transação")
+    @Size(max = 5000, message = "O lote deve ter no máximo 5000 transações")
+    private List<@Valid TransactionCreateRequest> transactions;
+
+    // Construtores
+    public TransactionBatchCreateRequest() {}
+
+    // Getters e Setters
+    public List<TransactionCreateRequest> getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(List<TransactionCreateRequest> transactions) {
+        this.transactions = transactions;
+    }
+}
@@ -0,0 +1,38 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da criação de transações em lote
+ * Os ids seguem a ordem das transações enviadas
+ */
+public class TransactionBatchResponse {
+    
+    private int created;
+    private List<String> ids;
+
+    // Construtores
+    public TransactionBatchResponse() {}
+
+    public TransactionBatchResponse(List<String> ids) {
+        this.created = ids.size();
+        this.ids = ids;
+    }
+
+    // Getters e Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+}
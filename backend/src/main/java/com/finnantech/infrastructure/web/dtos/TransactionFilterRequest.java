@@ -0,0 +1,68 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtros opcionais da listagem de transações (query params)
+ */
+public class TransactionFilterRequest {
+    
+    private String type;
+    private String categoryId;
+    private String paymentMethodId;
+    private String status;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+
+    // Construtores
+    public TransactionFilterRequest() {}
+
+    // Getters e Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getPaymentMethodId() {
+        return paymentMethodId;
+    }
+
+    public void setPaymentMethodId(String paymentMethodId) {
+        this.paymentMethodId = paymentMethodId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+}
@@ -0,0 +1,65 @@
+package com.finnantech.infrastructure.web.dtos;
+
+/**
+ * DTO para o resultado da importação de um extrato
+ */
+public class TransactionImportResponse {
+    
+    private long read;
+    private long imported;
+    private long duplicates;
+    private long ignored;
+    private long elapsedMillis;
+
+    // Construtores
+    public TransactionImportResponse() {}
+
+    public TransactionImportResponse(long read, long imported, long duplicates, long ignored, long elapsedMillis) {
+        this.read = read;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.ignored = ignored;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters e Setters
+    public long getRead() {
+        return read;
+    }
+
+    public void setRead(long read) {
+        this.read = read;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(long duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public long getIgnored() {
+        return ignored;
+    }
+
+    public void setIgnored(long ignored) {
+        this.ignored = ignored;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
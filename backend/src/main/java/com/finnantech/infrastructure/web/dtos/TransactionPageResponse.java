@@ -0,0 +1,48 @@
+package com.finnantech.infrastructure.web.dtos;
+
+import java.util.List;
+
+/**
+ * DTO para uma página da listagem de transações
+ * nextCursor é nulo na última página; não há total de registros
+ */
+public class TransactionPageResponse {
+    
+    private List<TransactionResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Construtores
+    public TransactionPageResponse() {}
+
+    public TransactionPageResponse(List<TransactionResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters e Setters
+    public List<TransactionResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TransactionResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -171,6 +171,25 @@ INSERT INTO transactions (id, user_id, category_id, payment_method_id, type, amo
 ('tx-maria-mai-005', '550e8400-e29b-41d4-a716-446655440001', 'cat-system-001', 'pm-maria-001', 'DESPESA', 680.00, 'BRL', 'Supermercado Maio', 'Compras premium', '2025-05-15', 'Pão de Açúcar', 'Supermercado', 'CONFIRMADA', '["alimentacao"]', FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 ('tx-maria-mai-006', '550e8400-e29b-41d4-a716-446655440001', 'cat-system-008', 'pm-maria-001', 'DESPESA', 580.00, 'BRL', 'Roupas Maio', 'Compras de inverno', '2025-05-22', 'Shopping Center', 'Vestuário', 'CONFIRMADA', '["roupas"]', FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
+-- ===========================================
+-- 5. CAMPO DESNORMALIZADO month_year
+-- ===========================================
+-- Os INSERTs acima não passam pelo @PrePersist, então o mês de referência é preenchido aqui
+
+UPDATE transactions SET month_year = FORMATDATETIME(transaction_date, 'yyyy-MM') WHERE month_year IS NULL;
+
+-- ===========================================
+-- 6. AGREGADOS MENSAIS (monthly_rollups)
+-- ===========================================
+-- Pelo mesmo motivo os agregados das transações acima são montados aqui, antes de a aplicação
+-- aceitar escritas; dali em diante o MonthlyRollupEventListener os mantém por deltas
+
+INSERT INTO monthly_rollups (user_id, month_year, type, category_id, total_amount, transaction_count, updated_at)
+SELECT user_id, month_year, type, category_id, SUM(amount), COUNT(*), CURRENT_TIMESTAMP
+FROM transactions
+WHERE status = 'CONFIRMADA' AND month_year IS NOT NULL
+GROUP BY user_id, month_year, type, category_id;
+
 -- ===========================================
 -- COMENTÁRIOS SOBRE OS DADOS DE TESTE
 -- ===========================================
@@ -135,7 +135,7 @@ CREATE TABLE IF NOT EXISTS transactions (
 );
 
 -- Índices estratégicos para performance
-CREATE INDEX IF NOT EXISTS idx_transactions_user_date ON transactions (user_id, transaction_date DESC);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date ON transactions (user_id, transaction_date DESC, created_at DESC, id DESC);
 CREATE INDEX IF NOT EXISTS idx_transactions_user_month ON transactions (user_id, month_year DESC);
 CREATE INDEX IF NOT EXISTS idx_transactions_category ON transactions (category_id);
 CREATE INDEX IF NOT EXISTS idx_transactions_payment_method ON transactions (payment_method_id);
@@ -319,4 +319,49 @@ CREATE TABLE IF NOT EXISTS audit_logs (
 CREATE INDEX IF NOT EXISTS idx_audit_user ON audit_logs (user_id);
 CREATE INDEX IF NOT EXISTS idx_audit_table_operation ON audit_logs (table_name, operation);
 CREATE INDEX IF NOT EXISTS idx_audit_timestamp ON audit_logs (timestamp DESC);
-CREATE INDEX IF NOT EXISTS idx_audit_record ON audit_logs (table_name, record_id); 
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_audit_record ON audit_logs (table_name, record_id);
+
+-- ===========================================
+-- 8. TABELA DE AGREGADOS MENSAIS
+-- ===========================================
+-- Justificativa: O dashboard não deve reagregar todo o histórico de transações a cada requisição.
+-- Estratégia: Soma e quantidade de transações confirmadas por (usuário, mês, tipo, categoria),
+-- atualizadas incrementalmente na mesma transação de cada escrita em transactions.
+
+CREATE TABLE IF NOT EXISTS monthly_rollups (
+    user_id VARCHAR(36) NOT NULL,
+    month_year VARCHAR(7) NOT NULL, -- YYYY-MM
+    type VARCHAR(20) NOT NULL CHECK (type IN ('RECEITA', 'DESPESA')),
+    category_id VARCHAR(36) NOT NULL,
+    
+    -- Agregados
+    total_amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    
+    -- Metadados
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    -- Constraints
+    CONSTRAINT pk_monthly_rollups PRIMARY KEY (user_id, month_year, type, category_id)
+);
+
+-- Índices
+CREATE INDEX IF NOT EXISTS idx_monthly_rollups_user_month ON monthly_rollups (user_id, month_year DESC);
+
+-- ===========================================
+-- 9. TABELA DE VERSÕES DOS DADOS POR USUÁRIO
+-- ===========================================
+-- Justificativa: Dashboard e categorias respondem com ETag e precisam saber se algo mudou sem recalcular.
+-- Estratégia: Contador monotônico por usuário incrementado após cada commit que altera transactions,
+-- categories ou payment_methods; a aplicação mantém os valores em memória e só lê daqui na primeira consulta.
+
+CREATE TABLE IF NOT EXISTS user_data_versions (
+    user_id VARCHAR(36) PRIMARY KEY,
+    data_version BIGINT NOT NULL DEFAULT 0,
+    
+    -- Metadados
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    -- Constraints
+    CONSTRAINT fk_user_data_versions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);